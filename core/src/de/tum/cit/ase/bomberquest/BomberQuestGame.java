@@ -7,8 +7,19 @@
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import de.tum.cit.ase.bomberquest.audio.MusicTrack;
+import de.tum.cit.ase.bomberquest.map.MapCache;
+import de.tum.cit.ase.bomberquest.platform.GdxAudioPort;
+import de.tum.cit.ase.bomberquest.platform.GdxFilePort;
+import de.tum.cit.ase.bomberquest.platform.GdxInputPort;
+import de.tum.cit.ase.bomberquest.screen.GameOverScreen;
 import de.tum.cit.ase.bomberquest.screen.GameScreen;
+import de.tum.cit.ase.bomberquest.screen.LoadingScreen;
 import de.tum.cit.ase.bomberquest.screen.MenuScreen;
+import de.tum.cit.ase.bomberquest.screen.PauseMenuScreen;
+import de.tum.cit.ase.bomberquest.screen.VictoryScreen;
+import de.tum.cit.ase.bomberquest.sim.MatchLoader;
+import de.tum.cit.ase.bomberquest.texture.Atlas;
+import de.tum.cit.ase.bomberquest.texture.FontCache;
 import games.spooky.gdx.nativefilechooser.NativeFileChooser;
 import games.spooky.gdx.nativefilechooser.NativeFileChooserCallback;
 import games.spooky.gdx.nativefilechooser.NativeFileChooserConfiguration;
@@ -16,12 +27,30 @@
 /**
  * The BomberQuestGame class represents the core of the Bomber Quest game.
  * It manages the screens and global resources like SpriteBatch and Skin.
+ *
+ * The menu, pause, game over and victory screens are created once and reused for every visit, only their
+ * text is updated when they are shown, and they are disposed together with the game. A GameScreen
+ * lives while its match is played or paused and is disposed as soon as the match is left.
  */
 public class BomberQuestGame extends Game {
 
+    /** The maps played in order, the next one is preloaded while the current one is played. */
+    private static final String[] CAMPAIGN = {"maps/map-1.properties", "maps/map-2.properties"};
+
     private SpriteBatch spriteBatch;
     private Skin skin;
     private final NativeFileChooser fileChooser;
+    private MapCache mapCache; // parsed maps, so restarting a level does not parse it again
+    private MatchLoader matchLoader; // sets up matches off the render thread
+    private String currentMap;
+    private FontCache fonts; // FreeType fonts, their glyph atlases are kept on disk between launches
+
+    // Screen registry, created on first use
+    private MenuScreen menuScreen;
+    private PauseMenuScreen pauseScreen;
+    private GameOverScreen gameOverScreen;
+    private VictoryScreen victoryScreen;
+    private GameScreen gameScreen; // the match being played or paused, null otherwise
 
     public BomberQuestGame(NativeFileChooser fileChooser) {
         this.fileChooser = fileChooser;
@@ -31,22 +60,80 @@ public BomberQuestGame(NativeFileChooser fileChooser) {
     public void create() {
         spriteBatch = new SpriteBatch();
         skin = new Skin(Gdx.files.internal("skin/craftacular/craftacular-ui.json"));
+        mapCache = new MapCache(new GdxFilePort(),
+            Gdx.files.external(".bomberquest/map-cache").file().toPath());
+        matchLoader = new MatchLoader(mapCache);
+        fonts = new FontCache(Gdx.files.external(".bomberquest/font-cache"));
 
         // Start on menu
         goToMenu();
     }
 
     public void goToMenu() {
-        setScreen(new MenuScreen(this));
+        if (menuScreen == null) menuScreen = new MenuScreen(this);
+        setScreen(menuScreen);
+    }
+
+    /** Shows the pause menu over the running match, {@link #resumeGame()} goes back to it. */
+    public void pauseGame() {
+        if (pauseScreen == null) pauseScreen = new PauseMenuScreen(this);
+        setScreen(pauseScreen);
+    }
+
+    public void resumeGame() {
+        if (gameScreen != null) setScreen(gameScreen);
+    }
+
+    /**
+     * Ends the current, lost match and shows why.
+     *
+     * @param reason e.g. "Bomb explosion" or "Timer expired"
+     */
+    public void goToGameOver(String reason) {
+        if (gameOverScreen == null) gameOverScreen = new GameOverScreen(this, skin);
+        gameOverScreen.setReason(reason);
+        setScreen(gameOverScreen);
+    }
+
+    /** Ends the current, won match. */
+    public void goToVictory() {
+        if (victoryScreen == null) victoryScreen = new VictoryScreen(this, skin);
+        setScreen(victoryScreen);
     }
 
     public void goToGame() {
-        setScreen(new GameScreen(this, "maps/map-1.properties"));
+        goToGame(CAMPAIGN[0]);
     }
 
     public void goToGame(String mapPath) {
-        // Overloaded to start the game with a custom map file
-        setScreen(new GameScreen(this, mapPath));
+        // Overloaded to start the game with a custom map file.
+        // The map is loaded in the background, the loading screen switches to the game once it is ready.
+        currentMap = mapPath;
+        LoadingScreen loadingScreen = new LoadingScreen(this);
+        loadingScreen.await(matchLoader.load(mapPath, new GdxInputPort(), new GdxAudioPort(),
+            System.nanoTime(), loadingScreen));
+        setScreen(loadingScreen);
+
+        // queued behind the load, so it runs while this map is played
+        String next = nextCampaignMap(mapPath);
+        if (next != null) matchLoader.preload(next);
+    }
+
+    /** Starts the campaign map after the current one, which was preloaded meanwhile. */
+    public void goToNextMap() {
+        goToGame(nextCampaignMap(currentMap));
+    }
+
+    public boolean hasNextMap() {
+        return nextCampaignMap(currentMap) != null;
+    }
+
+    /** The campaign map after the given one, null if it is the last or not a campaign map. */
+    private static String nextCampaignMap(String mapPath) {
+        for (int i = 0; i < CAMPAIGN.length - 1; i++) {
+            if (CAMPAIGN[i].equals(mapPath)) return CAMPAIGN[i + 1];
+        }
+        return null;
     }
 
     public SpriteBatch getSpriteBatch() {
@@ -57,6 +144,14 @@ public Skin getSkin() {
         return skin;
     }
 
+    public MapCache getMapCache() {
+        return mapCache;
+    }
+
+    public FontCache getFonts() {
+        return fonts;
+    }
+
     public void openMapFileChooser() {
     NativeFileChooserConfiguration config = new NativeFileChooserConfiguration();
     // Optional: You can set an initial directory where to open, e.g.:
@@ -90,20 +185,37 @@ public void onError(Exception ex) {
 
     @Override
     public void dispose() {
-        super.dispose();
+        setScreen(null); // hides the current screen and disposes the match, if any
+        disposeAll(menuScreen, pauseScreen, gameOverScreen, victoryScreen);
+        matchLoader.dispose();
         spriteBatch.dispose();
         skin.dispose();
+        fonts.dispose();
+        Atlas.dispose();
     }
 
     @Override
     public void setScreen(Screen screen) {
         Screen previous = getScreen();
         super.setScreen(screen);
-        // If we are switching away from a screen that is *not* the GameScreen, or
-        // if we truly want to discard it, we can dispose. Otherwise, keep it.
-        if (previous != null
-            && !(previous instanceof GameScreen)) {
+        // 1) Loading screens are used once
+        if (previous instanceof LoadingScreen) {
             previous.dispose();
         }
+        // 2) The match stays alive only while it is played or paused
+        if (screen instanceof GameScreen next) {
+            if (gameScreen != null && gameScreen != next) gameScreen.dispose();
+            gameScreen = next;
+        } else if (gameScreen != null && (screen == null || screen != pauseScreen)) {
+            gameScreen.dispose();
+            gameScreen = null;
+        }
+        // 3) Everything else is in the registry and disposed in dispose()
+    }
+
+    private static void disposeAll(Screen... screens) {
+        for (Screen screen : screens) {
+            if (screen != null) screen.dispose();
+        }
     }
 }
@@ -1,6 +0,0 @@
-package de.tum.cit.ase.bomberquest.map;
-
-public class ExplosionTile {
-    int x, y;
-    ExplosionTile(int x, int y) { this.x = x; this.y = y; }
-}
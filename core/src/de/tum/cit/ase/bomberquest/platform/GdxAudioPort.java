@@ -0,0 +1,21 @@
+package de.tum.cit.ase.bomberquest.platform;
+
+import de.tum.cit.ase.bomberquest.audio.SoundEffects;
+import de.tum.cit.ase.bomberquest.sim.AudioPort;
+
+/**
+ * Plays the simulation's sound cues through {@link SoundEffects}.
+ */
+public class GdxAudioPort implements AudioPort {
+
+    @Override
+    public void play(Cue cue) {
+        switch (cue) {
+            case BOMB_PLACE: SoundEffects.BOMB_PLACE.play(); break;
+            case BOMB_EXPLODE: SoundEffects.BOMB_EXPLODE.play(); break;
+            case POWER_UP: SoundEffects.POWER_UP.play(); break;
+            case WIN: SoundEffects.WIN.play(); break;
+            case DIE: SoundEffects.DIE.play(); break;
+        }
+    }
+}
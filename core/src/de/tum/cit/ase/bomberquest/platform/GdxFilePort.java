@@ -0,0 +1,30 @@
+package de.tum.cit.ase.bomberquest.platform;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import de.tum.cit.ase.bomberquest.sim.FilePort;
+
+/**
+ * Resolves map paths through Gdx.files.internal, same as the game always did.
+ * If a file lives outside the assets folder you may need Gdx.files.absolute(...) instead.
+ */
+public class GdxFilePort implements FilePort {
+
+    @Override
+    public InputStream read(String path) {
+        return Gdx.files.internal(path).read();
+    }
+
+    @Override
+    public ByteBuffer map(String path) throws IOException {
+        FileHandle file = Gdx.files.internal(path);
+        // files packed into the jar cannot be mapped, those are read into memory
+        if (file.file().exists()) return file.map();
+        return FilePort.super.map(path);
+    }
+}
@@ -0,0 +1,25 @@
+package de.tum.cit.ase.bomberquest.platform;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+import de.tum.cit.ase.bomberquest.sim.InputPort;
+
+/**
+ * Feeds keyboard input from Gdx.input into the simulation.
+ * Arrow keys move, SPACE places a bomb.
+ */
+public class GdxInputPort implements InputPort {
+
+    @Override
+    public boolean isJustPressed(Action action) {
+        switch (action) {
+            case UP: return Gdx.input.isKeyJustPressed(Input.Keys.UP);
+            case DOWN: return Gdx.input.isKeyJustPressed(Input.Keys.DOWN);
+            case LEFT: return Gdx.input.isKeyJustPressed(Input.Keys.LEFT);
+            case RIGHT: return Gdx.input.isKeyJustPressed(Input.Keys.RIGHT);
+            case PLACE_BOMB: return Gdx.input.isKeyJustPressed(Input.Keys.SPACE);
+            default: return false;
+        }
+    }
+}
@@ -10,55 +10,41 @@
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
 
 /**
  * The GameOverScreen class represents a dedicated screen displayed when the player loses.
+ * The game reuses one instance for every lost match, {@link #setReason} updates its text.
+ * Won matches go to the {@link VictoryScreen}.
  */
 public class GameOverScreen implements Screen {
 
-    private final BomberQuestGame game;
-    private final String gameOverReason;
-    private final Skin skin;
-    private Stage stage;
+    private final Stage stage;
+    private final Label reasonLabel;
 
     /**
      * Creates a new GameOverScreen.
      *
-     * @param game           The main game instance.
-     * @param gameOverReason Reason for the game over (e.g. "Bomb explosion" or "Time ran out").
-     * @param skin           The UI skin for styling widgets.
+     * @param game The main game instance.
+     * @param skin The UI skin for styling widgets.
      */
-    public GameOverScreen(BomberQuestGame game, String gameOverReason, Skin skin) {
-        this.game = game;
-        this.gameOverReason = gameOverReason;
-        this.skin = skin;
-    }
-
-    @Override
-    public void show() {
-        stage = new Stage();
-        Gdx.input.setInputProcessor(stage);
+    public GameOverScreen(BomberQuestGame game, Skin skin) {
+        stage = new Stage(new ScreenViewport(), game.getSpriteBatch());
 
         Table rootTable = new Table();
         rootTable.setFillParent(true);
         stage.addActor(rootTable);
 
-        String topText = "Lost!";
-        if ("Victory".equals(gameOverReason)) {
-            topText = "Win!";
-        }
-        Label topLabel = new Label(topText, skin, "title");
+        Label topLabel = new Label("Lost!", skin, "title");
         rootTable.add(topLabel).padBottom(20).row();
 
         Label gameOverLabel = new Label("GAME OVER", skin, "title");
         rootTable.add(gameOverLabel).padBottom(20).row();
 
-        if (gameOverReason != null && !gameOverReason.isEmpty()) {
-            Label reasonLabel = new Label("Reason: " + gameOverReason, skin);
-            rootTable.add(reasonLabel).padBottom(40).row();
-        }
+        reasonLabel = new Label("", skin);
+        rootTable.add(reasonLabel).padBottom(40).row();
 
         // Button to go back to the main menu
         TextButton menuButton = new TextButton("Return to Main Menu", skin);
@@ -71,6 +57,20 @@ public void clicked(InputEvent event, float x, float y) {
         });
     }
 
+    /**
+     * @param gameOverReason Reason for the game over (e.g. "Bomb explosion" or "Time ran out").
+     */
+    public void setReason(String gameOverReason) {
+        boolean hasReason = gameOverReason != null && !gameOverReason.isEmpty();
+        reasonLabel.setText(hasReason ? "Reason: " + gameOverReason : "");
+        reasonLabel.setVisible(hasReason);
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
+
     @Override
     public void render(float delta) {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -88,11 +88,12 @@ public void pause() { }
     @Override
     public void resume() { }
     @Override
-    public void hide() { }
+    public void hide() {
+        stage.cancelTouchFocus();
+        if (Gdx.input.getInputProcessor() == stage) Gdx.input.setInputProcessor(null);
+    }
     @Override
     public void dispose() {
-        if (stage != null) {
-            stage.dispose();
-        }
+        stage.dispose();
     }
 }
@@ -6,14 +6,19 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.*;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
 import de.tum.cit.ase.bomberquest.audio.MusicTrack;
 import de.tum.cit.ase.bomberquest.map.*;
-import de.tum.cit.ase.bomberquest.texture.Textures;
+import de.tum.cit.ase.bomberquest.sim.Match;
+import de.tum.cit.ase.bomberquest.texture.FontCache;
 
+/**
+ * Renders a running {@link Match}. All gameplay lives in the simulation,
+ * this screen only steps it once per frame and draws the result.
+ */
 public class GameScreen implements Screen {
 
     private final BomberQuestGame game;
@@ -26,78 +31,68 @@ public class GameScreen implements Screen {
     private OrthographicCamera camera;
     private ExtendViewport viewport;
     private SpriteBatch batch;
-    private ShapeRenderer shapeRenderer;
 
+    private Match match;
     private TileMap tileMap;
     private GameMapLogic logic;
     private Player player;
     private Hud hud;
+    private WorldRenderer worldRenderer;
+    private TileLayerCache tileLayer;
+    private final RenderQueue renderQueue = new RenderQueue();
 
     private float tileSizePx = 16f; // each tile is 16×16
-    private float timeLeft = 300f;
 
-    public GameScreen(BomberQuestGame game, String mapFile) {
+    // F3 toggles logging draw calls and texture binds per frame, once a second
+    private final GLProfiler profiler = new GLProfiler(Gdx.graphics);
+    private int profiledFrames = 0;
+    private float profiledTime = 0f;
+
+    /**
+     * @param match a match that is already set up, see {@link LoadingScreen}
+     */
+    public GameScreen(BomberQuestGame game, Match match) {
         this.game = game;
 
         camera = new OrthographicCamera();
         viewport = new ExtendViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
         batch = game.getSpriteBatch();
 
-        shapeRenderer = new ShapeRenderer();
-
-        // 1) Load the tileMap from map.properties
-        tileMap = new TileMap(40,24); // if you know it's 40×24
-        tileMap.loadFromProperties(mapFile);
+        worldRenderer = new WorldRenderer(tileSizePx);
 
-        // 3) Create the logic that holds bombs, enemies, powerups
-        logic = new GameMapLogic(tileMap, player);
-
-        // Suppose you have Textures.CHARACTER or something
-        player = new Player(tileMap, tileMap.getEntranceX(), tileMap.getEntranceY(), logic);
-        logic.setPlayer(player);
-
-        // 4) Spawn enemies from tileMap enemySpawns
-        for (TileMap.EnemySpawn es : tileMap.getEnemySpawns()) {
-            TextureRegion eSprite = Textures.ENEMY;
-            Enemy e = new Enemy(tileMap, es.x, es.y, logic);
-            logic.addEnemy(e);
-        }
+        // The map was loaded and player, enemies and logic were set up on the loader thread
+        this.match = match;
+        tileMap = match.getTileMap();
+        logic = match.getLogic();
+        player = match.getPlayer();
+        tileLayer = new TileLayerCache(tileMap, tileSizePx);
 
-        // Instantiate HUD (reusing the same SpriteBatch and a simple BitmapFont):
-        // If you already have a separate font, pass that instead of a new BitmapFont().
-        this.hud = new Hud(game.getSpriteBatch(), new BitmapFont());
+        // Instantiate HUD (reusing the same SpriteBatch), its font is rasterized at the size it is drawn at
+        this.hud = new Hud(game.getSpriteBatch(), game.getFonts().get(FontCache.HUD_FONT, Hud.FONT_SIZE));
     }
 
     @Override
     public void render(float delta) {
             // If the player hits ESC, pause the game
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            game.setScreen(new PauseMenuScreen(game, this));
+            game.pauseGame();
             return; // skip the rest of the render
         }
-
-        if (logic.isGameOver()) {
-            game.setScreen(
-                new GameOverScreen(
-                    game,
-                    logic.getGameOverReason(),  // e.g. "Bomb explosion" or "Timer expired"
-                    game.getSkin()
-                )
-            );
-            return;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            toggleProfiler();
         }
 
-        // -- 1) Update countdown timer
-        timeLeft -= delta;
-        if (timeLeft <= 0) {
-            // Time ran out -> end the game
-            logic.killPlayer("Time is over!");
+        if (logic.isGameOver()) {
+            if (match.isWon()) {
+                game.goToVictory();
+            } else {
+                game.goToGameOver(logic.getGameOverReason()); // e.g. "Bomb explosion" or "Timer expired"
+            }
             return;
         }
 
-        // -- 2) Update gameplay logic
-        player.update(delta);
-        logic.update(delta);
+        // -- 1) + 2) Update countdown timer and gameplay logic
+        match.step(delta);
 
         // -- 3) Update camera and draw map/objects
         clampCamera80Percent();
@@ -106,52 +101,35 @@ public void render(float delta) {
 
         ScreenUtils.clear(Color.BLACK);
 
-        batch.begin();
+        // draw the tile-based map from the cached chunks in view
+        tileLayer.render(camera, batch);
 
-        // draw the tile-based map
-        for (int y=0; y<tileMap.getHeight(); y++) {
-            for (int x=0; x<tileMap.getWidth(); x++) {
-                int t = tileMap.getTile(x,y);
-                TextureRegion region = getTileTexture(t);
-                float px = x*tileSizePx;
-                float py = y*tileSizePx;
-                batch.draw(region, px, py);
-            }
-        }
-
-        // draw powerUps
+        // queue the entities, the queue sorts them by layer and texture and draws them in one batch
         for (PowerUp p : logic.getPowerUps()) {
-            p.render(batch, tileSizePx);
+            worldRenderer.renderPowerUp(renderQueue, p);
         }
 
         for (Bomb b : logic.getBombs()) {
-            b.renderFuse(batch, tileSizePx); // only the fuse animation
+            worldRenderer.renderFuse(renderQueue, b); // only the fuse animation
         }
 
-        // draw enemies
         for (Enemy e : logic.getEnemies()) {
-            e.render(batch, tileSizePx);
+            worldRenderer.renderEnemy(renderQueue, e);
         }
 
-        // draw player
-        player.render(batch, tileSizePx);
+        worldRenderer.renderPlayer(renderQueue, player);
 
-        //draw the exit if revealed
+        // the exit if revealed
         if (logic.getExitObject() != null) {
-            logic.getExitObject().render(batch, tileSizePx);
+            worldRenderer.renderExit(renderQueue, logic.getExitObject());
         }
 
-        batch.end();
-
-        // B) Now draw the shape-based explosions in one pass
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
+        // explosions go on top, same atlas texture, so no extra pass
         for (Bomb b : logic.getBombs()) {
-            b.renderExplosion(shapeRenderer, tileSizePx);
+            worldRenderer.renderExplosion(renderQueue, b);
         }
 
-        shapeRenderer.end();
+        renderQueue.render(batch);
 
                 // -- 4) Render the HUD on top of everything
         // Number of enemies left
@@ -161,10 +139,38 @@ public void render(float delta) {
 
         hud.render(
             player,
-            timeLeft,
+            match.getTimeLeft(),
             enemiesLeft,
             exitUnlocked
         );
+
+        if (profiler.isEnabled()) logProfile(delta);
+    }
+
+    private void toggleProfiler() {
+        if (profiler.isEnabled()) {
+            profiler.disable();
+        } else {
+            profiler.reset();
+            profiledFrames = 0;
+            profiledTime = 0f;
+            profiler.enable();
+        }
+    }
+
+    private void logProfile(float delta) {
+        profiledFrames++;
+        profiledTime += delta;
+        if (profiledTime < 1f) return;
+        Gdx.app.log("GLProfiler", String.format("%.1f draw calls, %.1f texture binds, %.1f shader switches per frame",
+            (float) profiler.getDrawCalls() / profiledFrames,
+            (float) profiler.getTextureBindings() / profiledFrames,
+            (float) profiler.getShaderSwitches() / profiledFrames));
+        Gdx.app.log("RenderQueue", renderQueue.getCommandCount() + " sprites, "
+            + renderQueue.getTextureSwitches() + " texture switches, " + renderQueue.getDrawCalls() + " draw calls last frame");
+        profiler.reset();
+        profiledFrames = 0;
+        profiledTime = 0f;
     }
 
     /**
@@ -226,17 +232,6 @@ private void clampCamera80Percent() {
         }
     }
 
-    private TextureRegion getTileTexture(int tileType){
-        // 0 => floor, 1 => inde, 2 => destructive
-        switch(tileType) {
-            case TileMap.WALL_INDESTRUCTIBLE: return Textures.INDEST_WALL;
-            case TileMap.WALL_DESTRUCTIBLE: return Textures.DEST_WALL;
-            default:
-                // treat as floor
-                return Textures.TILES;
-        }
-    }
-
     @Override
     public void resize(int width, int height) {
         viewport.update(width,height,false);
@@ -246,6 +241,8 @@ public void resize(int width, int height) {
 
     @Override
     public void show() {
+        // the game polls the keyboard, no stage of a menu may keep receiving clicks
+        Gdx.input.setInputProcessor(null);
         MusicTrack.MENU.stop();
         MusicTrack.BACKGROUND.play();
     }
@@ -259,6 +256,7 @@ public void pause() {}
     public void resume() {}
     @Override
     public void dispose() {
-        shapeRenderer.dispose();
+        profiler.disable();
+        tileLayer.dispose();
     }
 }
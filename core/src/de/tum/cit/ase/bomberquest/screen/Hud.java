@@ -1,52 +1,72 @@
 package de.tum.cit.ase.bomberquest.screen;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
-import de.tum.cit.ase.bomberquest.map.Exit;
 import de.tum.cit.ase.bomberquest.map.Player;
 
 /**
  * A Heads-Up Display (HUD) that displays information on the screen.
  * It uses a separate camera so that it is always fixed on the screen.
+ *
+ * The status line only changes a few times a second, so its text and glyph layout are kept
+ * and rebuilt only when one of the shown values changes. A frame without changes allocates nothing.
  */
 public class Hud {
+    /** Pixel size the HUD font is rasterized at, about what the default font scaled by 2.5 was. */
+    public static final int FONT_SIZE = 36;
+    private static final float MARGIN = 10;
+
     private OrthographicCamera hudCamera;
     private SpriteBatch batch;
     private BitmapFont font;
 
+    private final StringBuilder text = new StringBuilder(96);
+    private final GlyphLayout layout = new GlyphLayout();
+
+    // What the layout shows, -1 => nothing laid out yet
+    private int shownRadius = -1, shownCapacity = -1, shownSeconds = -1, shownEnemies = -1;
+    private boolean shownExitUnlocked;
+
     public Hud(SpriteBatch batch, BitmapFont font) {
         this.batch = batch;
-        this.font = font;
-        this.font.getData().setScale(2.5f);
+        this.font = font; // drawn unscaled, so the glyphs stay sharp
         hudCamera = new OrthographicCamera();
     }
 
     public void render(Player player, float timeLeft, int enemiesLeft, boolean exitUnlocked) {
+        int seconds = (int) timeLeft;
+        if (player.getBombRadius() != shownRadius || player.getBombCapacity() != shownCapacity
+            || seconds != shownSeconds || enemiesLeft != shownEnemies || exitUnlocked != shownExitUnlocked) {
+            relayout(player.getBombRadius(), player.getBombCapacity(), seconds, enemiesLeft, exitUnlocked);
+        }
+
         batch.setProjectionMatrix(hudCamera.combined);
         batch.begin();
-
-        // Build a single line of text
-        // You can break this into two lines or more if you want to split it.
-        String hudLine = String.format(
-            "BombRadius: %d   BombCap: %d   TimeLeft: %d   Enemies: %d   Exit: %s",
-            player.getBombRadius(),
-            player.getBombCapacity(),
-            (int) timeLeft,
-            enemiesLeft,
-            exitUnlocked ? "Unlocked" : "Locked"
-        );
-
         // Draw near the top-left. Subtract e.g. 10px from the top so it’s not offscreen
-        float margin = 10;
-        font.getData().setScale(2.5f);
-        font.draw(batch, hudLine, margin, hudCamera.viewportHeight - margin);
-
+        font.draw(batch, layout, MARGIN, hudCamera.viewportHeight - MARGIN);
         batch.end();
     }
 
+    // A single line of text, appended piece by piece so no formatter or boxed values are created
+    private void relayout(int radius, int capacity, int seconds, int enemies, boolean exitUnlocked) {
+        text.setLength(0);
+        text.append("BombRadius: ").append(radius)
+            .append("   BombCap: ").append(capacity)
+            .append("   TimeLeft: ").append(seconds)
+            .append("   Enemies: ").append(enemies)
+            .append("   Exit: ").append(exitUnlocked ? "Unlocked" : "Locked");
+        layout.setText(font, text);
+
+        shownRadius = radius;
+        shownCapacity = capacity;
+        shownSeconds = seconds;
+        shownEnemies = enemies;
+        shownExitUnlocked = exitUnlocked;
+    }
+
     public void resize(int width,int height) {
         hudCamera.setToOrtho(false,width,height);
     }
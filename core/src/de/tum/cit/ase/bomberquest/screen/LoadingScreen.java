@@ -0,0 +1,109 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import de.tum.cit.ase.bomberquest.BomberQuestGame;
+import de.tum.cit.ase.bomberquest.sim.Match;
+import de.tum.cit.ase.bomberquest.sim.MatchLoader;
+
+/**
+ * Shown while a {@link MatchLoader} sets up a match in the background.
+ * It only polls the loader each frame and swaps to the GameScreen once the match is ready,
+ * so the window stays responsive however large the map is.
+ */
+public class LoadingScreen implements Screen, MatchLoader.Progress {
+
+    private final BomberQuestGame game;
+    private final Stage stage;
+    private final Label stageLabel;
+
+    private CompletableFuture<Match> pending;
+
+    // written by the loader thread, read when drawing
+    private volatile float fraction = 0f;
+    private volatile String stageName = "Loading";
+
+    public LoadingScreen(BomberQuestGame game) {
+        this.game = game;
+        stage = new Stage(new ScreenViewport(), game.getSpriteBatch());
+
+        Table table = new Table();
+        table.setFillParent(true);
+        stage.addActor(table);
+        table.add(new Label("Loading...", game.getSkin(), "title")).padBottom(40).row();
+        stageLabel = new Label("", game.getSkin());
+        table.add(stageLabel).row();
+    }
+
+    /** Starts waiting for the given load, its progress must be reported to this screen. */
+    public void await(CompletableFuture<Match> pending) {
+        this.pending = pending;
+    }
+
+    @Override
+    public void update(float fraction, String name) {
+        this.fraction = fraction;
+        this.stageName = name;
+    }
+
+    @Override
+    public void render(float delta) {
+        if (pending != null && pending.isDone()) {
+            finish();
+            return;
+        }
+        ScreenUtils.clear(Color.BLACK);
+        stageLabel.setText(stageName + " " + Math.round(fraction * 100) + "%");
+        stage.act(delta);
+        stage.draw();
+    }
+
+    private void finish() {
+        Match match;
+        try {
+            match = pending.join();
+        } catch (CompletionException e) {
+            // e.g. a malformed map file chosen in the file dialog
+            System.err.println("Could not load map: " + e.getCause().getMessage());
+            game.goToMenu();
+            return;
+        } catch (CancellationException e) {
+            // the load was dropped, e.g. because another map was picked meanwhile
+            System.err.println("Map load was cancelled");
+            game.goToMenu();
+            return;
+        }
+        game.setScreen(new GameScreen(game, match));
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    @Override
+    public void show() {
+        // the menu must not get clicks while loading, a second click would start a second load
+        Gdx.input.setInputProcessor(null);
+    }
+    @Override
+    public void pause() {}
+    @Override
+    public void resume() {}
+    @Override
+    public void hide() {}
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
+}
@@ -112,5 +112,7 @@ public void resume() {
     @Override
     public void hide() {
         MusicTrack.MENU.stop();
+        stage.cancelTouchFocus(); // the game shows this same instance again next time
+        if (Gdx.input.getInputProcessor() == stage) Gdx.input.setInputProcessor(null);
     }
 }
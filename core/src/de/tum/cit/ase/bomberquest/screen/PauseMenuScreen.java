@@ -10,21 +10,16 @@
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
 
+/**
+ * Shown when ESC is pressed during a match. The game keeps a single instance and shows it for
+ * every pause, so the stage is built once and shares the game's SpriteBatch.
+ */
 public class PauseMenuScreen implements Screen {
 
-    private final BomberQuestGame game;
-    private final Screen oldGameScreen; // The screen we paused
-    private Stage stage;
+    private final Stage stage;
 
-    public PauseMenuScreen(BomberQuestGame game, Screen oldGameScreen) {
-        this.game = game;
-        this.oldGameScreen = oldGameScreen;
-    }
-
-    @Override
-    public void show() {
-        stage = new Stage(new ScreenViewport(new OrthographicCamera()));
-        Gdx.input.setInputProcessor(stage);
+    public PauseMenuScreen(BomberQuestGame game) {
+        stage = new Stage(new ScreenViewport(new OrthographicCamera()), game.getSpriteBatch());
 
         Table root = new Table();
         root.setFillParent(true);
@@ -40,8 +35,8 @@ public void show() {
         btnContinue.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
-                // Return to the old game screen
-                game.setScreen(oldGameScreen);
+                // Return to the paused game screen
+                game.resumeGame();
             }
         });
 
@@ -58,6 +53,11 @@ public void changed(ChangeEvent event, Actor actor) {
         });
     }
 
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+    }
+
     @Override
     public void render(float delta) {
         // Clears screen behind stage automatically if needed
@@ -77,8 +77,13 @@ public void resize(int width, int height) {
     public void pause() { }
     @Override
     public void resume() { }
+
     @Override
-    public void hide() { }
+    public void hide() {
+        // so no button is still held down the next time we pause, and none reacts while hidden
+        stage.cancelTouchFocus();
+        if (Gdx.input.getInputProcessor() == stage) Gdx.input.setInputProcessor(null);
+    }
 
     @Override
     public void dispose() {
@@ -0,0 +1,143 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Collects the sprites of a frame as compact commands (layer, texture id, region, position,
+ * size, color) instead of drawing them right away, then draws them sorted by layer and,
+ * within a layer, by texture, so the SpriteBatch only flushes when it really has to.
+ *
+ * Commands live in parallel primitive arrays that are reused every frame. The sort is a stable
+ * radix sort on a 16 bit key (layer in the high byte, texture id in the low byte), so sprites
+ * with the same layer and texture keep their submission order.
+ */
+public class RenderQueue {
+
+    // Layers, drawn from low to high
+    public static final int LAYER_POWER_UPS = 0;
+    public static final int LAYER_BOMBS = 1;
+    public static final int LAYER_ENEMIES = 2;
+    public static final int LAYER_PLAYER = 3;
+    public static final int LAYER_EXIT = 4;
+    public static final int LAYER_EFFECTS = 5;
+
+    private static final int MAX_TEXTURES = 256;
+
+    private int count = 0;
+    private int[] keys = new int[256];
+    private TextureRegion[] regions = new TextureRegion[256];
+    private float[] bounds = new float[256 * 4]; // x, y, width, height
+    private float[] colors = new float[256];     // packed, see Color#toFloatBits
+
+    // the sort permutation and its scratch space
+    private int[] order = new int[256];
+    private int[] scratch = new int[256];
+    private final int[] counts = new int[256];
+
+    private final Map<Texture, Integer> textureIds = new IdentityHashMap<>();
+
+    private int lastCommands = 0, lastTextureSwitches = 0, lastDrawCalls = 0;
+
+    /** Queues a region at its own size, untinted. */
+    public void submit(int layer, TextureRegion region, float x, float y) {
+        submit(layer, region, x, y, region.getRegionWidth(), region.getRegionHeight(), Color.WHITE_FLOAT_BITS);
+    }
+
+    /** Queues a region stretched to the given size and tinted with a packed color. */
+    public void submit(int layer, TextureRegion region, float x, float y, float width, float height, float packedColor) {
+        if (count == keys.length) grow();
+        keys[count] = (layer << 8) | textureId(region.getTexture());
+        regions[count] = region;
+        bounds[4 * count] = x;
+        bounds[4 * count + 1] = y;
+        bounds[4 * count + 2] = width;
+        bounds[4 * count + 3] = height;
+        colors[count] = packedColor;
+        count++;
+    }
+
+    /**
+     * Sorts and draws everything queued this frame between batch.begin() and batch.end(),
+     * then empties the queue.
+     */
+    public void render(SpriteBatch batch) {
+        sort();
+        batch.begin();
+        int switches = 0;
+        Texture previous = null;
+        for (int n = 0; n < count; n++) {
+            int i = order[n];
+            Texture texture = regions[i].getTexture();
+            if (texture != previous) {
+                if (previous != null) switches++;
+                previous = texture;
+            }
+            batch.setPackedColor(colors[i]);
+            batch.draw(regions[i], bounds[4 * i], bounds[4 * i + 1], bounds[4 * i + 2], bounds[4 * i + 3]);
+        }
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+        batch.end();
+
+        lastCommands = count;
+        lastTextureSwitches = switches;
+        lastDrawCalls = batch.renderCalls; // flushes since begin()
+        Arrays.fill(regions, 0, count, null);
+        count = 0;
+    }
+
+    /** Sprites drawn by the last {@link #render}. */
+    public int getCommandCount() { return lastCommands; }
+
+    /** Times the last render had to change the texture, each one forces a batch flush. */
+    public int getTextureSwitches() { return lastTextureSwitches; }
+
+    /** Draw calls (batch flushes) of the last render. */
+    public int getDrawCalls() { return lastDrawCalls; }
+
+    // LSD radix sort of the indices by key, one counting pass per byte
+    private void sort() {
+        for (int i = 0; i < count; i++) order[i] = i;
+        for (int shift = 0; shift < 16; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int n = 0; n < count; n++) counts[(keys[order[n]] >>> shift) & 0xFF]++;
+            int sum = 0;
+            for (int b = 0; b < 256; b++) {
+                int c = counts[b];
+                counts[b] = sum;
+                sum += c;
+            }
+            for (int n = 0; n < count; n++) {
+                int i = order[n];
+                scratch[counts[(keys[i] >>> shift) & 0xFF]++] = i;
+            }
+            int[] t = order; order = scratch; scratch = t;
+        }
+    }
+
+    // Small ids in order of first use; textures past MAX_TEXTURES share the last id (still correct, just unsorted)
+    private int textureId(Texture texture) {
+        Integer id = textureIds.get(texture);
+        if (id == null) {
+            id = Math.min(textureIds.size(), MAX_TEXTURES - 1);
+            textureIds.put(texture, id);
+        }
+        return id;
+    }
+
+    private void grow() {
+        int size = keys.length * 2;
+        keys = Arrays.copyOf(keys, size);
+        regions = Arrays.copyOf(regions, size);
+        bounds = Arrays.copyOf(bounds, size * 4);
+        colors = Arrays.copyOf(colors, size);
+        order = new int[size];
+        scratch = new int[size];
+    }
+}
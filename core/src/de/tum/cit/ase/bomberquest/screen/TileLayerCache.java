@@ -0,0 +1,178 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+
+import de.tum.cit.ase.bomberquest.map.TileMap;
+
+/**
+ * The static tile layer (floor and walls), baked into a SpriteCache per map chunk
+ * ({@link TileMap#CHUNK_SIZE} tiles square), so the tile vertices are uploaded once
+ * instead of being rebuilt with one batch.draw per tile every frame.
+ *
+ * Only chunks that intersect the camera are drawn. A chunk is rebuilt only when its
+ * {@link TileMap#getChunkVersion version} changed, i.e. after destroyWall hit it.
+ * The cache holds a fixed number of chunk slots, chunks that scrolled out of view give
+ * their slot to the ones coming in, so huge maps do not keep every chunk on the GPU.
+ */
+public class TileLayerCache implements Disposable {
+
+    private static final int MAX_SLOTS = 64;
+    private static final int SPRITES_PER_SLOT = TileMap.CHUNK_SIZE * TileMap.CHUNK_SIZE;
+
+    private final TileMap tileMap;
+    private final float tileSizePx;
+    private final SpriteCache cache;
+
+    // slot => cache id, chunk, the chunk version it was built from, last frame it was drawn
+    private final int[] cacheIds, slotChunks, slotVersions;
+    private final long[] slotFrames;
+    private int slotCount = 0;
+    private final int[] chunkSlots; // chunk => slot, -1 if not cached
+    private long frame = 0;
+
+    private int rebuilds = 0;
+
+    public TileLayerCache(TileMap tileMap, float tileSizePx) {
+        this.tileMap = tileMap;
+        this.tileSizePx = tileSizePx;
+        int chunkCount = tileMap.getChunksX() * tileMap.getChunksY();
+        int slots = Math.min(chunkCount, MAX_SLOTS);
+        // without indices, a cache is not limited to 8191 sprites
+        cache = new SpriteCache(slots * SPRITES_PER_SLOT, false);
+        cacheIds = new int[slots];
+        slotChunks = new int[slots];
+        slotVersions = new int[slots];
+        slotFrames = new long[slots];
+        chunkSlots = new int[chunkCount];
+        Arrays.fill(chunkSlots, -1);
+    }
+
+    /**
+     * Draws the visible chunks. Must be called outside of batch.begin()/end().
+     * The batch is only used for chunks that do not fit into the slots, which needs
+     * a view of more than {@value #MAX_SLOTS} chunks.
+     */
+    public void render(OrthographicCamera camera, SpriteBatch batch) {
+        frame++;
+        float chunkPx = TileMap.CHUNK_SIZE * tileSizePx;
+        float halfW = camera.viewportWidth * camera.zoom / 2f;
+        float halfH = camera.viewportHeight * camera.zoom / 2f;
+        int cx0 = Math.max(0, (int) Math.floor((camera.position.x - halfW) / chunkPx));
+        int cy0 = Math.max(0, (int) Math.floor((camera.position.y - halfH) / chunkPx));
+        int cx1 = Math.min(tileMap.getChunksX() - 1, (int) Math.floor((camera.position.x + halfW) / chunkPx));
+        int cy1 = Math.min(tileMap.getChunksY() - 1, (int) Math.floor((camera.position.y + halfH) / chunkPx));
+
+        // 1) Bring the visible chunks up to date, this must happen before cache.begin()
+        boolean overflow = false;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                overflow |= !prepare(cx, cy);
+            }
+        }
+
+        // 2) Draw them
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                int slot = chunkSlots[cy * tileMap.getChunksX() + cx];
+                if (slot >= 0 && slotFrames[slot] == frame) cache.draw(cacheIds[slot]);
+            }
+        }
+        cache.end();
+
+        // 3) Chunks that got no slot this frame are drawn tile by tile
+        if (overflow) {
+            batch.setProjectionMatrix(camera.combined);
+            batch.begin();
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    int slot = chunkSlots[cy * tileMap.getChunksX() + cx];
+                    if (slot < 0 || slotFrames[slot] != frame) drawChunk(batch, cx, cy);
+                }
+            }
+            batch.end();
+        }
+    }
+
+    /** How many chunks were baked so far, for profiling. */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    // Makes sure chunk (cx,cy) has an up-to-date slot, false if none is free this frame
+    private boolean prepare(int cx, int cy) {
+        int chunk = cy * tileMap.getChunksX() + cx;
+        int slot = chunkSlots[chunk];
+        if (slot < 0) {
+            slot = claimSlot();
+            if (slot < 0) return false;
+            chunkSlots[chunk] = slot;
+            slotChunks[slot] = chunk;
+            build(slot, cx, cy);
+        } else if (slotVersions[slot] != tileMap.getChunkVersion(cx, cy)) {
+            build(slot, cx, cy);
+        }
+        slotFrames[slot] = frame;
+        return true;
+    }
+
+    // A new slot while there are some left, else the one drawn longest ago (not this frame)
+    private int claimSlot() {
+        if (slotCount < cacheIds.length) {
+            cacheIds[slotCount] = -1;
+            return slotCount++;
+        }
+        int oldest = -1;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotFrames[slot] == frame) continue;
+            if (oldest < 0 || slotFrames[slot] < slotFrames[oldest]) oldest = slot;
+        }
+        if (oldest >= 0) chunkSlots[slotChunks[oldest]] = -1;
+        return oldest;
+    }
+
+    private void build(int slot, int cx, int cy) {
+        if (cacheIds[slot] < 0) {
+            cache.beginCache();
+        } else {
+            cache.beginCache(cacheIds[slot]); // replaces it, every chunk has the same sprite count
+        }
+        int x0 = cx << TileMap.CHUNK_SHIFT, y0 = cy << TileMap.CHUNK_SHIFT;
+        int added = 0;
+        for (int y = y0; y < Math.min(y0 + TileMap.CHUNK_SIZE, tileMap.getHeight()); y++) {
+            for (int x = x0; x < Math.min(x0 + TileMap.CHUNK_SIZE, tileMap.getWidth()); x++) {
+                cache.add(WorldRenderer.getTileTexture(tileMap.getTile(x, y)), x * tileSizePx, y * tileSizePx);
+                added++;
+            }
+        }
+        // Chunks on the map edge are padded with empty sprites, so any chunk fits into any slot
+        for (; added < SPRITES_PER_SLOT; added++) {
+            cache.add(WorldRenderer.getTileTexture(TileMap.FLOOR), 0, 0, 0, 0);
+        }
+        cacheIds[slot] = cache.endCache();
+        slotVersions[slot] = tileMap.getChunkVersion(cx, cy);
+        rebuilds++;
+    }
+
+    private void drawChunk(SpriteBatch batch, int cx, int cy) {
+        int x0 = cx << TileMap.CHUNK_SHIFT, y0 = cy << TileMap.CHUNK_SHIFT;
+        for (int y = y0; y < Math.min(y0 + TileMap.CHUNK_SIZE, tileMap.getHeight()); y++) {
+            for (int x = x0; x < Math.min(x0 + TileMap.CHUNK_SIZE, tileMap.getWidth()); x++) {
+                TextureRegion region = WorldRenderer.getTileTexture(tileMap.getTile(x, y));
+                batch.draw(region, x * tileSizePx, y * tileSizePx);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
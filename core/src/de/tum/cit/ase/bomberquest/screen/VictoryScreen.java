@@ -6,55 +6,55 @@
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import de.tum.cit.ase.bomberquest.BomberQuestGame;
-import de.tum.cit.ase.bomberquest.audio.SoundEffects;
 
 /**
  * The VictoryScreen class represents the screen displayed when the player achieves victory.
- * It provides options to return to the main menu.
+ * It provides options to go on with the next campaign map or return to the main menu.
+ * The stage is built once, so the same instance can be shown again after every won level.
  */
 public class VictoryScreen implements Screen {
 
     private final BomberQuestGame game;
-    private final Screen previousScreen;
-    private Stage stage;
-    private final Skin skin;
+    private final Stage stage;
+    private final Label victoryLabel;
+    private final TextButton nextButton;
+    private final Cell<TextButton> nextCell;
 
     /**
      * Creates a new VictoryScreen.
      *
-     * @param game           The main game instance
-     * @param previousScreen The previous screen to potentially return to
+     * @param game          The main game instance
      * @param skin          The skin used for UI elements
      */
-    public VictoryScreen(BomberQuestGame game, Screen previousScreen, Skin skin) {
+    public VictoryScreen(BomberQuestGame game, Skin skin) {
         this.game = game;
-        this.previousScreen = previousScreen;
-        this.skin = skin;
-    }
-
-    @Override
-    public void show() {
-        stage = new Stage();
+        stage = new Stage(new ScreenViewport(), game.getSpriteBatch());
         Table table = new Table();
         table.setFillParent(true);
         stage.addActor(table);
-        Gdx.input.setInputProcessor(stage);
 
-        // Create victory label with animation
-        Label victoryLabel = new Label("Victory!", skin, "title");
+        // Create victory label, it blinks while the screen is shown
+        victoryLabel = new Label("Victory!", skin, "title");
         table.add(victoryLabel).padBottom(80).row();
 
-        // Add blinking animation to the victory label
-        victoryLabel.addAction(Actions.forever(Actions.sequence(
-                Actions.fadeIn(0.7f),
-                Actions.fadeOut(0.7f)
-        )));
+        // After a campaign level, continue with the next one (already preloaded)
+        nextButton = new TextButton("Next Map", skin);
+        nextCell = table.add(nextButton).padBottom(20);
+        table.row();
+        nextButton.addListener(new ClickListener() {
+            @Override
+            public void clicked(InputEvent event, float x, float y) {
+                game.goToNextMap();
+            }
+        });
 
         // Create and add the back to menu button
         TextButton backToMenuButton = new TextButton("Return to Menu", skin);
@@ -71,9 +71,25 @@ public void clicked(InputEvent event, float x, float y) {
         // Optional: Add more stats or information about the victory
         Label statsLabel = new Label("Congratulations! You've completed the level!", skin);
         table.add(statsLabel).padTop(20).row();
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+
+        // Restart the blinking animation of the victory label
+        victoryLabel.clearActions();
+        victoryLabel.getColor().a = 1f;
+        victoryLabel.addAction(Actions.forever(Actions.sequence(
+                Actions.fadeIn(0.7f),
+                Actions.fadeOut(0.7f)
+        )));
 
-        // PLAY SOUND
-        SoundEffects.WIN.play();
+        // A hidden button still takes its space, so the cell shrinks to nothing too
+        boolean showNext = game.hasNextMap();
+        nextButton.setVisible(showNext);
+        nextCell.height(showNext ? nextButton.getPrefHeight() : 0).padBottom(showNext ? 20 : 0);
+        nextCell.getTable().invalidate();
     }
 
     @Override
@@ -101,14 +117,12 @@ public void resume() {
 
     @Override
     public void hide() {
+        stage.cancelTouchFocus();
+        if (Gdx.input.getInputProcessor() == stage) Gdx.input.setInputProcessor(null);
     }
 
     @Override
     public void dispose() {
-        if (stage != null) {
-            stage.dispose();
-        }
+        stage.dispose();
     }
-    //test
-    //sync
 }
\ No newline at end of file
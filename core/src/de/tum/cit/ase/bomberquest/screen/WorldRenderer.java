@@ -0,0 +1,142 @@
+package de.tum.cit.ase.bomberquest.screen;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import de.tum.cit.ase.bomberquest.map.*;
+import de.tum.cit.ase.bomberquest.texture.Animations;
+import de.tum.cit.ase.bomberquest.texture.Atlas;
+import de.tum.cit.ase.bomberquest.texture.Textures;
+
+/**
+ * Draws the state of the simulation. The entities in the map package
+ * only hold state, everything that needs a texture lives here.
+ * Sprites are not drawn directly but submitted to a {@link RenderQueue}.
+ */
+public class WorldRenderer {
+
+    private static final float FLICKER_RATE = 30f;
+
+    private final float tileSizePx;
+    private final TextureRegion white = Atlas.white();
+
+    public WorldRenderer(float tileSizePx) {
+        this.tileSizePx = tileSizePx;
+    }
+
+    public void renderPowerUp(RenderQueue queue, PowerUp p) {
+        TextureRegion sprite = (p.getPowerType() == 5)
+                               ? Textures.POWER_UP_GREEN
+                               : Textures.POWER_UP_RED;
+        queue.submit(RenderQueue.LAYER_POWER_UPS, sprite, p.getTileX() * tileSizePx, p.getTileY() * tileSizePx);
+    }
+
+    public void renderExit(RenderQueue queue, Exit exit) {
+        queue.submit(RenderQueue.LAYER_EXIT, Textures.EXIT, exit.getTileX() * tileSizePx, exit.getTileY() * tileSizePx);
+    }
+
+    public void renderFuse(RenderQueue queue, Bomb bomb) {
+        if (!bomb.isExploded()) {
+            // Draw the fuse animation
+            float px = bomb.getX() * tileSizePx;
+            float py = bomb.getY() * tileSizePx;
+            TextureRegion fuseFrame = Animations.BOMB_FUSE.getKeyFrame(bomb.getAnimTime(), true);
+            queue.submit(RenderQueue.LAYER_BOMBS, fuseFrame, px, py);
+        }
+    }
+
+    /**
+     * Draws the blast as two tinted quads per tile from the white atlas cell, in the same
+     * batch and on the same texture as the sprites, so it costs no extra draw call.
+     */
+    public void renderExplosion(RenderQueue queue, Bomb bomb) {
+        if (!bomb.isExploded() || bomb.isDone()) return;
+
+        float progress = bomb.getExplosionProgress(); // 0..1
+        float time = bomb.getAnimTime();
+
+        for (ExplosionTile tile : bomb.getAffectedTiles()) {
+            // Flicker alpha a bit, the same tile and moment always flicker the same
+            float alpha = (1 - progress) * (0.5f + 0.2f * flicker(tile.getX(), tile.getY(), time));
+
+            // Outer color
+            queue.submit(RenderQueue.LAYER_EFFECTS, white, tile.getX()*tileSizePx, tile.getY()*tileSizePx,
+                tileSizePx, tileSizePx, Color.toFloatBits(1f, 0.2f, 0f, alpha));
+
+            // Inner color is brighter, smaller
+            float inset = tileSizePx * 0.90f;
+            queue.submit(RenderQueue.LAYER_EFFECTS, white, tile.getX()*tileSizePx+inset, tile.getY()*tileSizePx+inset,
+                tileSizePx-(inset), tileSizePx-(inset), Color.toFloatBits(1f, 0.8f, 0f, Math.min(1f, alpha + 0.2f)));
+        }
+    }
+
+    // 0..1, changes FLICKER_RATE times per second, hashed from the tile and the time step
+    private static float flicker(int x, int y, float time) {
+        int step = (int) (time * FLICKER_RATE);
+        int h = x * 0x9E3779B1 ^ y * 0x85EBCA77 ^ step * 0xC2B2AE3D;
+        h ^= h >>> 15;
+        h *= 0x2C1B3C6D;
+        h ^= h >>> 13;
+        return (h & 0xFFFF) / 65536f;
+    }
+
+    public void renderEnemy(RenderQueue queue, Enemy enemy) {
+        // Pick the animation for the current direction:
+        Animation<TextureRegion> currentAnim;
+        switch (enemy.getDirection()) {
+            case UP:
+                currentAnim = Animations.ENEMY_UP;
+                break;
+            case DOWN:
+                currentAnim = Animations.ENEMY_DOWN;
+                break;
+            case LEFT:
+                currentAnim = Animations.ENEMY_LEFT;
+                break;
+            case RIGHT:
+            default:
+                currentAnim = Animations.ENEMY_RIGHT;
+                break;
+        }
+
+        // Get the current frame (looping = true)
+        TextureRegion frame = currentAnim.getKeyFrame(enemy.getAnimTime(), true);
+        queue.submit(RenderQueue.LAYER_ENEMIES, frame, enemy.getTileX() * tileSizePx, enemy.getTileY() * tileSizePx);
+    }
+
+    public void renderPlayer(RenderQueue queue, Player player) {
+        // Decide which direction's animation we want
+        Animation<TextureRegion> currentAnim;
+        switch (player.getDirection()) {
+            case UP:
+                currentAnim = Animations.PLAYER_UP;
+                break;
+            case DOWN:
+                currentAnim = Animations.PLAYER_DOWN;
+                break;
+            case LEFT:
+                currentAnim = Animations.PLAYER_LEFT;
+                break;
+            case RIGHT:
+            default:
+                currentAnim = Animations.PLAYER_RIGHT;
+                break;
+        }
+
+        TextureRegion currentFrame = currentAnim.getKeyFrame(player.getAnimationTime(), true);
+        queue.submit(RenderQueue.LAYER_PLAYER, currentFrame, player.getTileX() * tileSizePx, player.getTileY() * tileSizePx);
+    }
+
+    /** The floor and wall textures, the tiles themselves are drawn by {@link TileLayerCache}. */
+    static TextureRegion getTileTexture(int tileType){
+        // 0 => floor, 1 => inde, 2 => destructive
+        switch(tileType) {
+            case TileMap.WALL_INDESTRUCTIBLE: return Textures.INDEST_WALL;
+            case TileMap.WALL_DESTRUCTIBLE: return Textures.DEST_WALL;
+            default:
+                // treat as floor
+                return Textures.TILES;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package de.tum.cit.ase.bomberquest.texture;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * All sprites of the game in a single packed texture, so the SpriteBatch never has to flush
+ * because the next sprite comes from another sheet.
+ *
+ * The atlas is made at build time by the desktop AtlasPacker ({@code ./gradlew :desktop:packTextures}),
+ * which records every {@link SpriteSheet#at} call made by {@link Textures} and {@link Animations}
+ * and packs only those cells. Regions are looked up once and cached by name.
+ */
+public final class Atlas {
+
+    public static final String PATH = "texture/packed/sprites.atlas";
+    /** A plain white cell, tinted through the batch color to draw flat shapes like blasts. */
+    public static final String WHITE = "white";
+
+    /** Where regions come from, replaced by the packer while it records the cells in use. */
+    public interface RegionSource {
+        TextureRegion find(SpriteSheet sheet, int row, int column);
+    }
+
+    private static final Map<String, TextureRegion> regions = new HashMap<>();
+    private static RegionSource source;
+    private static TextureAtlas atlas;
+
+    private Atlas() {}
+
+    static TextureRegion region(SpriteSheet sheet, int row, int column) {
+        String name = sheet.regionName(row, column);
+        TextureRegion region = regions.get(name);
+        if (region == null) {
+            region = source().find(sheet, row, column);
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /** The {@link #WHITE} cell. Always read from the packed atlas. */
+    public static TextureRegion white() {
+        TextureRegion region = regions.get(WHITE);
+        if (region == null) {
+            region = atlas().findRegion(WHITE);
+            regions.put(WHITE, region);
+        }
+        return region;
+    }
+
+    public static void setRegionSource(RegionSource regionSource) {
+        source = regionSource;
+        regions.clear();
+    }
+
+    private static RegionSource source() {
+        if (source == null) {
+            source = (sheet, row, column) -> {
+                TextureRegion region = atlas().findRegion(sheet.regionName(row, column));
+                if (region == null) {
+                    throw new IllegalStateException(sheet.regionName(row, column)
+                        + " is not in " + PATH + ", run ./gradlew :desktop:packTextures");
+                }
+                return region;
+            };
+        }
+        return source;
+    }
+
+    private static TextureAtlas atlas() {
+        if (atlas == null) atlas = new TextureAtlas(Gdx.files.internal(PATH));
+        return atlas;
+    }
+
+    /** Frees the atlas texture, call when the game shuts down. */
+    public static void dispose() {
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        regions.clear();
+    }
+}
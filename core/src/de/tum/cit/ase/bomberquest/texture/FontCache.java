@@ -0,0 +1,262 @@
+package de.tum.cit.ase.bomberquest.texture;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Fonts rasterized by FreeType at the exact pixel size they are drawn at, instead of a
+ * scaled-up default BitmapFont.
+ *
+ * Rasterizing takes a while, so the glyph pages and metrics are written to a cache directory,
+ * keyed by font file, size and charset (CRCs of the font bytes and of the charset are part of
+ * the name, so a changed font or charset is simply rasterized again). The font file is read
+ * and hashed once per run, later lookups only hash the charset. Later launches load the
+ * pages as textures and rebuild the font from the stored metrics without touching FreeType.
+ * The cache owns every font and texture it hands out.
+ */
+public class FontCache implements Disposable {
+
+    /** The font for the in-game HUD. */
+    public static final String HUD_FONT = "fonts/DejaVuSansMono.ttf";
+
+    private static final int MAGIC = 0x42514746; // "BQGF"
+    private static final int VERSION = 1;
+    private static final int PAGE_SIZE = 512;
+
+    private final FileHandle diskDir; // null => rasterize every launch
+    private final Map<String, BitmapFont> fonts = new HashMap<>();
+    private final Map<String, Long> fontCrcs = new HashMap<>(); // font path => CRC of its bytes, read once
+    private final List<Disposable> owned = new ArrayList<>();
+
+    /**
+     * @param diskDir where glyph atlases are stored, created on demand; null to not store them
+     */
+    public FontCache(FileHandle diskDir) {
+        this.diskDir = diskDir;
+    }
+
+    /** The font with the default FreeType charset. */
+    public BitmapFont get(String fontPath, int sizePx) {
+        return get(fontPath, sizePx, FreeTypeFontGenerator.DEFAULT_CHARS);
+    }
+
+    /**
+     * The font at the given size, from memory, the disk cache or FreeType, in that order.
+     * Must be called on the render thread.
+     */
+    public BitmapFont get(String fontPath, int sizePx, String charset) {
+        FileHandle fontFile = Gdx.files.internal(fontPath);
+        String key = key(fontFile, sizePx, charset);
+        BitmapFont font = fonts.get(key);
+        if (font != null) return font; // the usual case after the first match, no file is read
+
+        long start = System.nanoTime();
+        font = load(key);
+        String how = "loaded from cache";
+        if (font == null) {
+            font = generate(fontFile, sizePx, charset, key);
+            how = "rasterized";
+        }
+        Gdx.app.log("FontCache", fontFile.name() + " " + sizePx + "px " + how + " in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+        fonts.put(key, font);
+        return font;
+    }
+
+    // e.g. "DejaVuSansMono-36-1a2b3c4d-5e6f7a8b", the font file is only read the first time
+    private String key(FileHandle fontFile, int sizePx, String charset) {
+        Long fontCrc = fontCrcs.get(fontFile.path());
+        if (fontCrc == null) {
+            CRC32 crc = new CRC32();
+            crc.update(fontFile.readBytes());
+            fontCrc = crc.getValue();
+            fontCrcs.put(fontFile.path(), fontCrc);
+        }
+        CRC32 crc = new CRC32(); // the charset is short, hashing it every call is cheap
+        for (int i = 0; i < charset.length(); i++) {
+            char c = charset.charAt(i);
+            crc.update(c >>> 8);
+            crc.update(c);
+        }
+        return fontFile.nameWithoutExtension() + "-" + sizePx + "-" + Long.toHexString(fontCrc)
+            + "-" + Long.toHexString(crc.getValue());
+    }
+
+    private BitmapFont generate(FileHandle fontFile, int sizePx, String charset, String key) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+        owned.add(packer);
+
+        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        parameter.size = sizePx;
+        parameter.characters = charset;
+        parameter.packer = packer;
+        parameter.minFilter = Texture.TextureFilter.Linear;
+        parameter.magFilter = Texture.TextureFilter.Linear;
+        FreeTypeFontGenerator.FreeTypeBitmapFontData data = generator.generateData(parameter);
+        generator.dispose();
+
+        if (data.regions == null) data.regions = new Array<>();
+        packer.updateTextureRegions(data.regions, parameter.minFilter, parameter.magFilter, false);
+        // the packer leaves the page textures alone when it is disposed
+        for (PixmapPacker.Page page : packer.getPages()) owned.add(page.getTexture());
+        save(key, data, packer);
+        return new BitmapFont(data, data.regions, true);
+    }
+
+    // --- disk cache: one PNG per glyph page plus the metrics in <key>.glyphs, written last ---
+
+    private void save(String key, BitmapFont.BitmapFontData data, PixmapPacker packer) {
+        if (diskDir == null) return;
+        try {
+            diskDir.mkdirs();
+            Array<PixmapPacker.Page> pages = packer.getPages();
+            for (int i = 0; i < pages.size; i++) {
+                PixmapIO.writePNG(diskDir.child(key + "-" + i + ".png"), pages.get(i).getPixmap());
+            }
+
+            List<BitmapFont.Glyph> glyphs = glyphsOf(data);
+            FileHandle tmp = diskDir.child(key + ".glyphs.tmp");
+            try (DataOutputStream out = new DataOutputStream(tmp.write(false, 8192))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(pages.size);
+                out.writeFloat(data.lineHeight);
+                out.writeFloat(data.capHeight);
+                out.writeFloat(data.ascent);
+                out.writeFloat(data.descent);
+                out.writeFloat(data.down);
+                out.writeFloat(data.spaceXadvance);
+                out.writeFloat(data.xHeight);
+                out.writeFloat(data.padTop);
+                out.writeFloat(data.padLeft);
+                out.writeFloat(data.padBottom);
+                out.writeFloat(data.padRight);
+
+                out.writeInt(glyphs.size());
+                for (BitmapFont.Glyph g : glyphs) {
+                    out.writeInt(g.id);
+                    out.writeInt(g.srcX);
+                    out.writeInt(g.srcY);
+                    out.writeInt(g.width);
+                    out.writeInt(g.height);
+                    out.writeInt(g.xoffset);
+                    out.writeInt(g.yoffset);
+                    out.writeInt(g.xadvance);
+                    out.writeInt(g.page);
+                }
+                for (BitmapFont.Glyph first : glyphs) {
+                    for (BitmapFont.Glyph second : glyphs) {
+                        int amount = first.getKerning((char) second.id);
+                        if (amount == 0) continue;
+                        out.writeInt(first.id);
+                        out.writeInt(second.id);
+                        out.writeInt(amount);
+                    }
+                }
+                out.writeInt(-1); // end of kerning pairs
+                out.writeBoolean(data.missingGlyph != null);
+            }
+            tmp.moveTo(diskDir.child(key + ".glyphs"));
+        } catch (IOException | GdxRuntimeException e) {
+            // not fatal, the font is simply rasterized again next launch
+            Gdx.app.error("FontCache", "Could not store " + key + ": " + e.getMessage());
+        }
+    }
+
+    private BitmapFont load(String key) {
+        if (diskDir == null) return null;
+        FileHandle meta = diskDir.child(key + ".glyphs");
+        if (!meta.exists()) return null;
+        List<Texture> textures = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(meta.read(8192))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return null;
+            int pageCount = in.readInt();
+            BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+            data.lineHeight = in.readFloat();
+            data.capHeight = in.readFloat();
+            data.ascent = in.readFloat();
+            data.descent = in.readFloat();
+            data.down = in.readFloat();
+            data.spaceXadvance = in.readFloat();
+            data.xHeight = in.readFloat();
+            data.padTop = in.readFloat();
+            data.padLeft = in.readFloat();
+            data.padBottom = in.readFloat();
+            data.padRight = in.readFloat();
+
+            int glyphCount = in.readInt();
+            for (int i = 0; i < glyphCount; i++) {
+                BitmapFont.Glyph g = new BitmapFont.Glyph();
+                g.id = in.readInt();
+                g.srcX = in.readInt();
+                g.srcY = in.readInt();
+                g.width = in.readInt();
+                g.height = in.readInt();
+                g.xoffset = in.readInt();
+                g.yoffset = in.readInt();
+                g.xadvance = in.readInt();
+                g.page = in.readInt();
+                data.setGlyph(g.id, g);
+            }
+            for (int first = in.readInt(); first != -1; first = in.readInt()) {
+                int second = in.readInt();
+                data.getGlyph((char) first).setKerning(second, in.readInt());
+            }
+            if (in.readBoolean()) data.missingGlyph = data.getGlyph((char) 0);
+
+            Array<TextureRegion> regions = new Array<>();
+            for (int i = 0; i < pageCount; i++) {
+                Texture texture = new Texture(diskDir.child(key + "-" + i + ".png"));
+                texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                textures.add(texture);
+                regions.add(new TextureRegion(texture));
+            }
+            owned.addAll(textures);
+            return new BitmapFont(data, regions, true);
+        } catch (IOException | GdxRuntimeException e) {
+            // a broken cache entry is not an error, rasterize again
+            for (Texture texture : textures) texture.dispose();
+            Gdx.app.error("FontCache", "Ignoring cached " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<BitmapFont.Glyph> glyphsOf(BitmapFont.BitmapFontData data) {
+        List<BitmapFont.Glyph> glyphs = new ArrayList<>();
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph g : page) {
+                if (g != null) glyphs.add(g);
+            }
+        }
+        return glyphs;
+    }
+
+    @Override
+    public void dispose() {
+        for (BitmapFont font : fonts.values()) font.dispose();
+        for (Disposable d : owned) d.dispose();
+        fonts.clear();
+        owned.clear();
+    }
+}
@@ -1,11 +1,8 @@
 package de.tum.cit.ase.bomberquest.texture;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import de.tum.cit.ase.bomberquest.map.PowerUp;
-
 /**
  * Enumerates all spritesheets used in the game and provides helper methods for grabbing texture regions from them.
  * It is assumed that every spritesheet has some standard grid size which can be used for easier coordinate specification.
@@ -34,22 +31,36 @@ public enum SpriteSheet {
 
     ORIGINAL_BOMBERMAN("original-bomberman.png", 16, 16);
     
-private final Texture spritesheet;
+private final String filename;
     private final int width;
     private final int height;
     
     /**
      * Constructor for each variant of this enum.
      * Every SpriteSheet has a corresponding file, width, and height.
+     * The file itself is not loaded at runtime, the cells the game uses are packed into {@link Atlas}.
      * @param filename the filename of the spritesheet
      * @param width the width of a single grid cell
      * @param height the height of a single grid cell
      */
     SpriteSheet(String filename, int width, int height) {
-        this.spritesheet = new Texture(Gdx.files.internal("texture/" + filename));
+        this.filename = filename;
         this.width = width;
         this.height = height;
     }
+
+    public String getFilename() { return filename; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * The name of a cell in the packed atlas, e.g. "basictiles_16x16_2_3".
+     * Sheets that share a file and grid (like BOMB_SHEET and ORIGINAL_BOMBERMAN) share their cells.
+     */
+    public String regionName(int row, int column) {
+        String base = filename.substring(0, filename.lastIndexOf('.'));
+        return base + "_" + width + "x" + height + "_" + row + "_" + column;
+    }
     
     /**
      * Returns the TextureRegion at the specified row and column (1-based coordinates)
@@ -57,19 +68,15 @@ public enum SpriteSheet {
      * This method assumes the size of the texture to be a single grid cell.
      * Keep in mind that since spritesheet textures typically start in the top-left corner,
      * the row index starts at 1 at the top and the column index starts at 1 on the left.
+     * The region comes from the packed {@link Atlas} and is cached, so repeated calls
+     * return the same instance and never allocate.
      *
      * @param row the row of the texture to fetch, starting from 1 at the TOP of the spritesheet
      * @param column the column of the texture to fetch, starting from 1 on the LEFT of the spritesheet
      * @return the texture
      */
     public TextureRegion at(int row, int column) {
-        return new TextureRegion(
-                spritesheet,
-                (column - 1) * this.width,
-                (row - 1) * this.height,
-                this.width,
-                this.height
-        );
+        return Atlas.region(this, row, column);
     }
     
 }
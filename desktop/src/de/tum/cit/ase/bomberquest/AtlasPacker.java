@@ -0,0 +1,157 @@
+package de.tum.cit.ase.bomberquest;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import de.tum.cit.ase.bomberquest.texture.Atlas;
+import de.tum.cit.ase.bomberquest.texture.SpriteSheet;
+
+/**
+ * Packs the spritesheet cells the game actually uses into one texture and writes a libGDX
+ * .atlas file for it, see {@link Atlas}. Runs at build time without a window:
+ * ./gradlew :desktop:packTextures --args="assets/texture assets/texture/packed"
+ *
+ * The cells are found by running the static initializers of Textures and Animations with a
+ * recording region source, so a new SpriteSheet.at(...) constant is picked up automatically.
+ * Every cell is surrounded by a copy of its edge pixels, so filtering never bleeds in a neighbour.
+ * The page also holds a small white cell ({@link Atlas#WHITE}) for tinted flat shapes.
+ */
+public class AtlasPacker {
+
+	private static final String PAGE_NAME = "sprites";
+	private static final int PADDING = 2; // 1 px extruded edge + 1 px gap
+	private static final int MAX_SIZE = 2048;
+
+	private static final int WHITE_SIZE = 4;
+
+	// sheet is null for the white cell
+	private record Cell(String name, SpriteSheet sheet, int row, int column, int width, int height) {}
+
+	/**
+	 * @param args the spritesheet directory and the output directory
+	 */
+	public static void main(String[] args) throws Exception {
+		Path textureDir = Path.of(args.length > 0 ? args[0] : "assets/texture");
+		Path outDir = Path.of(args.length > 1 ? args[1] : "assets/texture/packed");
+
+		// 1) Record the cells, the regions handed out are empty placeholders
+		Map<String, Cell> cells = new LinkedHashMap<>();
+		Atlas.setRegionSource((sheet, row, column) -> {
+			String name = sheet.regionName(row, column);
+			cells.putIfAbsent(name, new Cell(name, sheet, row, column, sheet.getWidth(), sheet.getHeight()));
+			return new TextureRegion();
+		});
+		Class.forName("de.tum.cit.ase.bomberquest.texture.Textures");
+		Class.forName("de.tum.cit.ase.bomberquest.texture.Animations");
+		cells.put(Atlas.WHITE, new Cell(Atlas.WHITE, null, 0, 0, WHITE_SIZE, WHITE_SIZE));
+
+		// 2) Pack them on shelves, tallest first, into the smallest square power of two that fits
+		List<Cell> sorted = new ArrayList<>(cells.values());
+		sorted.sort(Comparator.comparingInt((Cell c) -> -c.height()).thenComparing(Cell::name));
+		int size = 64;
+		Map<String, int[]> positions;
+		while ((positions = place(sorted, size)) == null) {
+			size *= 2;
+			if (size > MAX_SIZE) throw new IllegalStateException("cells do not fit into " + MAX_SIZE + "x" + MAX_SIZE);
+		}
+
+		// 3) Copy the pixels and write the page and the atlas description
+		Map<String, BufferedImage> sheets = new HashMap<>();
+		BufferedImage page = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+		for (Cell cell : sorted) {
+			int[] at = positions.get(cell.name());
+			if (cell.sheet() == null) {
+				fillWhite(page, at[0], at[1], cell.width(), cell.height());
+				continue;
+			}
+			BufferedImage sheet = sheets.get(cell.sheet().getFilename());
+			if (sheet == null) {
+				sheet = ImageIO.read(textureDir.resolve(cell.sheet().getFilename()).toFile());
+				sheets.put(cell.sheet().getFilename(), sheet);
+			}
+			copyExtruded(sheet, (cell.column() - 1) * cell.sheet().getWidth(), (cell.row() - 1) * cell.sheet().getHeight(),
+				cell.sheet().getWidth(), cell.sheet().getHeight(), page, at[0], at[1]);
+		}
+		Files.createDirectories(outDir);
+		ImageIO.write(page, "png", outDir.resolve(PAGE_NAME + ".png").toFile());
+		writeAtlas(outDir.resolve(PAGE_NAME + ".atlas"), size, sorted, positions);
+
+		System.out.println("Packed " + sorted.size() + " cells from " + sheets.size() + " sheets into "
+			+ outDir.resolve(PAGE_NAME + ".png") + " (" + size + "x" + size + ")");
+	}
+
+	// Top-left corner of every cell, null if they do not fit into size x size
+	private static Map<String, int[]> place(List<Cell> cells, int size) {
+		Map<String, int[]> positions = new HashMap<>();
+		int x = 0, y = 0, shelfHeight = 0;
+		for (Cell cell : cells) {
+			int w = cell.width() + 2 * PADDING, h = cell.height() + 2 * PADDING;
+			if (x + w > size) {
+				x = 0;
+				y += shelfHeight;
+				shelfHeight = 0;
+			}
+			if (x + w > size || y + h > size) return null;
+			positions.put(cell.name(), new int[] {x + PADDING, y + PADDING});
+			x += w;
+			shelfHeight = Math.max(shelfHeight, h);
+		}
+		return positions;
+	}
+
+	// Copies a w x h cell and repeats its outermost pixels once around it.
+	// Parts of a cell outside the sheet repeat the sheet's edge, like the clamped texture did before.
+	private static void copyExtruded(BufferedImage from, int fx, int fy, int w, int h, BufferedImage to, int tx, int ty) {
+		for (int y = -1; y <= h; y++) {
+			for (int x = -1; x <= w; x++) {
+				int sx = Math.min(from.getWidth() - 1, fx + Math.max(0, Math.min(w - 1, x)));
+				int sy = Math.min(from.getHeight() - 1, fy + Math.max(0, Math.min(h - 1, y)));
+				to.setRGB(tx + x, ty + y, from.getRGB(sx, sy));
+			}
+		}
+	}
+
+	// The white cell, also extruded by one pixel
+	private static void fillWhite(BufferedImage to, int tx, int ty, int w, int h) {
+		for (int y = -1; y <= h; y++) {
+			for (int x = -1; x <= w; x++) {
+				to.setRGB(tx + x, ty + y, 0xFFFFFFFF);
+			}
+		}
+	}
+
+	private static void writeAtlas(Path file, int size, List<Cell> cells, Map<String, int[]> positions) throws IOException {
+		try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+			out.println();
+			out.println(PAGE_NAME + ".png");
+			out.println("size: " + size + ", " + size);
+			out.println("format: RGBA8888");
+			out.println("filter: Nearest, Nearest");
+			out.println("repeat: none");
+			for (Cell cell : cells) {
+				int[] at = positions.get(cell.name());
+				int w = cell.width(), h = cell.height();
+				out.println(cell.name());
+				out.println("  rotate: false");
+				out.println("  xy: " + at[0] + ", " + at[1]);
+				out.println("  size: " + w + ", " + h);
+				out.println("  orig: " + w + ", " + h);
+				out.println("  offset: 0, 0");
+				out.println("  index: -1");
+			}
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package de.tum.cit.ase.bomberquest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.map.BinaryMapFormat;
+import de.tum.cit.ase.bomberquest.map.TileMap;
+import de.tum.cit.ase.bomberquest.sim.FilePort;
+
+/**
+ * Converts maps between the properties format and the binary format, in either direction.
+ * The direction follows the file extensions, e.g.
+ * ./gradlew :desktop:convertMap --args="maps/map-1.properties maps/map-1.bqmap"
+ */
+public class MapConverter {
+	/**
+	 * @param args input and output path
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: MapConverter <input.properties|input.bqmap> <output.properties|output.bqmap>");
+			System.exit(1);
+		}
+		String input = args[0];
+		String output = args[1];
+
+		// the random source only picks an exit if the map has none, which is not written out
+		TileMap tileMap = TileMap.load(FilePort.LOCAL, input, new Random(0));
+
+		try (OutputStream out = Files.newOutputStream(Path.of(output))) {
+			if (output.endsWith(BinaryMapFormat.EXTENSION)) {
+				BinaryMapFormat.write(tileMap, out);
+			} else {
+				BinaryMapFormat.writeProperties(tileMap, out);
+			}
+		}
+		System.out.println("Converted " + input + " (" + tileMap.getWidth() + "x" + tileMap.getHeight() + ") to " + output);
+	}
+}
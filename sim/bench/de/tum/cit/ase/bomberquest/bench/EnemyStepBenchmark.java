@@ -0,0 +1,122 @@
+package de.tum.cit.ase.bomberquest.bench;
+
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.map.Enemy;
+import de.tum.cit.ase.bomberquest.map.GameMapLogic;
+import de.tum.cit.ase.bomberquest.map.Player;
+import de.tum.cit.ase.bomberquest.map.TileMap;
+import de.tum.cit.ase.bomberquest.sim.AudioPort;
+import de.tum.cit.ase.bomberquest.sim.InputPort;
+
+/**
+ * Runs the same crowded map with sequential and with parallel enemy steps,
+ * checks that both end in exactly the same state and prints the time per tick.
+ * Usage: EnemyStepBenchmark [mapSize] [enemies] [seconds] [seed]
+ *
+ * The player stands in the open in the middle of the map, so enemies that come close chase it
+ * through the FlowField, and bombs go off all over the map, so enemies dodge flames through the
+ * DangerMap and some of them die. The run ends early if an enemy reaches the player.
+ * With a single fork-join worker parallel mode steps sequentially, to check the bands on such a
+ * machine anyway run with -Djava.util.concurrent.ForkJoinPool.common.parallelism=4.
+ */
+public class EnemyStepBenchmark {
+
+    private static final float TICK = 1f / 60f;
+    // a bomb per this many enemies is lit every second
+    private static final int ENEMIES_PER_BOMB = 500;
+    private static final int BOMB_RADIUS = 3;
+    // no enemy starts, and no bomb is lit, this close to the player
+    private static final int SAFE_DISTANCE = Enemy.CHASE_RANGE + 8;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        int enemies = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42L;
+
+        System.out.printf("map %dx%d, %d enemies, %d simulated seconds%n", size, size, enemies, seconds);
+        long sequentialHash = 0;
+        for (int round = 0; round < 3; round++) {
+            for (boolean parallel : new boolean[] {false, true}) {
+                Random random = new Random(seed);
+                GameMapLogic logic = setUp(size, enemies, random);
+                logic.getEnemyStepper().setParallel(parallel);
+                int bombsPerSecond = Math.max(1, enemies / ENEMIES_PER_BOMB);
+                int maxTicks = (int) (seconds / TICK);
+                int ticks = 0;
+                long start = System.nanoTime();
+                while (ticks < maxTicks && !logic.isGameOver()) {
+                    if (ticks % 60 == 0) placeBombs(logic, bombsPerSecond, random);
+                    logic.update(TICK);
+                    ticks++;
+                }
+                long elapsed = System.nanoTime() - start;
+
+                long hash = 31 * hash(logic) + ticks;
+                if (!parallel) {
+                    sequentialHash = hash;
+                } else if (hash != sequentialHash) {
+                    throw new IllegalStateException("parallel run diverged from the sequential one");
+                }
+                System.out.printf("round %d %-10s %8.3f ms/tick  %d ticks  %d enemies left  state %016x%n",
+                    round, parallel ? "parallel" : "sequential", elapsed / 1e6 / ticks, ticks,
+                    logic.getEnemies().size(), hash);
+            }
+        }
+    }
+
+    // Open map with pillars, the player in the middle and the enemies spread around it
+    private static GameMapLogic setUp(int size, int enemies, Random random) {
+        TileMap map = new TileMap(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                boolean pillar = x % 2 == 0 && y % 2 == 0;
+                map.setTile(x, y, border || pillar ? TileMap.WALL_INDESTRUCTIBLE : TileMap.FLOOR);
+            }
+        }
+
+        GameMapLogic logic = new GameMapLogic(map, null, AudioPort.SILENT, random);
+        int center = size / 2 | 1;
+        logic.setPlayer(new Player(map, center, center, logic, InputPort.NONE));
+        for (int i = 0; i < enemies; i++) {
+            int x, y;
+            do {
+                x = 1 + random.nextInt(size - 2);
+                y = 1 + random.nextInt(size - 2);
+            } while (map.isBlocked(x, y) || nearPlayer(logic, x, y));
+            logic.addEnemy(new Enemy(map, x, y, logic));
+        }
+        return logic;
+    }
+
+    private static void placeBombs(GameMapLogic logic, int count, Random random) {
+        TileMap map = logic.getTileMap();
+        for (int i = 0; i < count; i++) {
+            int x, y;
+            do {
+                x = 1 + random.nextInt(map.getWidth() - 2);
+                y = 1 + random.nextInt(map.getHeight() - 2);
+            } while (map.isBlocked(x, y) || nearPlayer(logic, x, y));
+            logic.placeBomb(x, y, BOMB_RADIUS);
+        }
+    }
+
+    private static boolean nearPlayer(GameMapLogic logic, int x, int y) {
+        Player player = logic.getPlayer();
+        return Math.abs(x - player.getTileX()) + Math.abs(y - player.getTileY()) < SAFE_DISTANCE;
+    }
+
+    private static long hash(GameMapLogic logic) {
+        long h = 1125899906842597L;
+        h = 31 * h + (logic.isGameOver() ? 1 : 0);
+        h = 31 * h + logic.getBombs().size();
+        for (Enemy e : logic.getEnemies()) {
+            h = 31 * h + e.getTileX();
+            h = 31 * h + e.getTileY();
+            h = 31 * h + e.getDirection().ordinal();
+        }
+        return h;
+    }
+}
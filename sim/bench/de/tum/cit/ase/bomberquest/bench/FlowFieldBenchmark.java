@@ -0,0 +1,137 @@
+package de.tum.cit.ase.bomberquest.bench;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.map.FlowField;
+import de.tum.cit.ase.bomberquest.map.OccupancyGrid;
+import de.tum.cit.ase.bomberquest.map.TileMap;
+
+/**
+ * Compares the shared FlowField against one breadth-first search per enemy,
+ * for a growing number of enemies on the same map.
+ * Usage: FlowFieldBenchmark [mapSize] [ticks]
+ *
+ * Every tick the player may move and every enemy asks for its next step, like Enemy does.
+ * With the flow field the cost per tick stays roughly flat, the per-enemy search grows linearly.
+ */
+public class FlowFieldBenchmark {
+
+    private static final int[] ENEMY_COUNTS = {10, 100, 1_000, 10_000, 100_000};
+    private static final int NAIVE_LIMIT = 1_000; // the per-enemy search gets too slow above this
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 128;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+
+        TileMap map = buildMap(size);
+        System.out.printf("map %dx%d, %d ticks, player changes tile every 15 ticks%n", size, size, ticks);
+        System.out.printf("%10s %16s %16s %18s%n", "enemies", "flow ns/tick", "flow ns/enemy", "per-enemy ns/tick");
+
+        for (int count : ENEMY_COUNTS) {
+            int[] enemies = spawnEnemies(map, count, new Random(7));
+
+            // warm up, then measure
+            runFlowField(map, enemies, ticks / 4);
+            long flow = runFlowField(map, enemies, ticks);
+
+            String naive = "-";
+            if (count <= NAIVE_LIMIT) {
+                runNaive(map, enemies, ticks / 20);
+                naive = String.format("%d", runNaive(map, enemies, ticks / 4) / (ticks / 4));
+            }
+            System.out.printf("%10d %16d %16.1f %18s%n",
+                count, flow / ticks, (double) flow / ticks / count, naive);
+        }
+    }
+
+    /** Total nanoseconds for the given ticks, all enemies query the shared field. */
+    private static long runFlowField(TileMap map, int[] enemies, int ticks) {
+        OccupancyGrid occupancy = new OccupancyGrid(map);
+        FlowField field = new FlowField(map, occupancy, map.getWidth() * map.getHeight());
+        int sink = 0;
+        long start = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            movePlayer(map, occupancy, t);
+            for (int e : enemies) {
+                sink += field.directionToPlayer(map.indexX(e), map.indexY(e));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) System.out.print(""); // keep the loop alive
+        return elapsed;
+    }
+
+    /** Total nanoseconds for the given ticks, every enemy runs its own search to the player. */
+    private static long runNaive(TileMap map, int[] enemies, int ticks) {
+        OccupancyGrid occupancy = new OccupancyGrid(map);
+        int[] distance = new int[map.getIndexCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int sink = 0;
+        long start = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            movePlayer(map, occupancy, t);
+            for (int e : enemies) {
+                sink += search(map, e, occupancy.getPlayerIndex(), distance, queue);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) System.out.print("");
+        return elapsed;
+    }
+
+    private static int search(TileMap map, int from, int to, int[] distance, ArrayDeque<Integer> queue) {
+        java.util.Arrays.fill(distance, -1);
+        queue.clear();
+        distance[from] = 0;
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            if (current == to) return distance[current];
+            int cx = map.indexX(current), cy = map.indexY(current);
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx + TileMap.stepX(dir), ny = cy + TileMap.stepY(dir);
+                if (map.isBlocked(nx, ny)) continue;
+                int next = map.index(nx, ny);
+                if (distance[next] >= 0) continue;
+                distance[next] = distance[current] + 1;
+                queue.add(next);
+            }
+        }
+        return -1;
+    }
+
+    // The player walks back and forth along the first free row
+    private static void movePlayer(TileMap map, OccupancyGrid occupancy, int tick) {
+        int span = map.getWidth() - 2;
+        int step = (tick / 15) % (2 * span);
+        int x = step < span ? 1 + step : 2 * span - step;
+        occupancy.movePlayer(x, 1);
+    }
+
+    // Border and pillars of indestructible walls, like the handmade maps
+    private static TileMap buildMap(int size) {
+        TileMap map = new TileMap(size, size);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean border = x == 0 || y == 0 || x == size - 1 || y == size - 1;
+                boolean pillar = x % 2 == 0 && y % 2 == 0;
+                map.setTile(x, y, border || pillar ? TileMap.WALL_INDESTRUCTIBLE : TileMap.FLOOR);
+            }
+        }
+        return map;
+    }
+
+    private static int[] spawnEnemies(TileMap map, int count, Random random) {
+        int[] enemies = new int[count];
+        for (int i = 0; i < count; i++) {
+            int x, y;
+            do {
+                x = random.nextInt(map.getWidth());
+                y = random.nextInt(map.getHeight());
+            } while (map.isBlocked(x, y));
+            enemies[i] = map.index(x, y);
+        }
+        return enemies;
+    }
+}
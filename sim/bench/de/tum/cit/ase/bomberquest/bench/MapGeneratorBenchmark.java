@@ -0,0 +1,55 @@
+package de.tum.cit.ase.bomberquest.bench;
+
+import de.tum.cit.ase.bomberquest.map.MapGenerator;
+import de.tum.cit.ase.bomberquest.map.MapValidator;
+import de.tum.cit.ase.bomberquest.map.TileMap;
+
+/**
+ * How many maps per second MapGenerator makes, by map size.
+ * Usage: MapGeneratorBenchmark [millisPerSize]
+ *
+ * Enemies and power-ups grow with the area, like on the hand-written 21x21 maps.
+ * The first maps of every size also go through MapValidator, the benchmark fails if one is invalid.
+ */
+public class MapGeneratorBenchmark {
+
+    private static final int[] SIZES = {15, 21, 31, 63, 127, 255, 511, 1023};
+    private static final int VALIDATED = 50;
+
+    public static void main(String[] args) {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+
+        System.out.printf("%10s %14s %14s%n", "size", "maps/s", "us/map");
+        for (int size : SIZES) {
+            MapGenerator.Settings settings = new MapGenerator.Settings(size, size);
+            settings.enemies = size * size / 50;
+            settings.powerUps = size * size / 16;
+
+            for (long seed = 0; seed < VALIDATED; seed++) {
+                MapValidator.Report report = MapValidator.validate(MapGenerator.generate(settings, seed), "seed " + seed);
+                if (!report.isValid()) {
+                    throw new IllegalStateException(size + "x" + size + ", " + report.source + ": " + report.errors);
+                }
+            }
+
+            // warm up, then count maps for the given time
+            run(settings, millis / 4);
+            long start = System.nanoTime();
+            long maps = run(settings, millis);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%4dx%-5d %14.0f %14.1f%n", size, size, maps / seconds, seconds * 1e6 / maps);
+        }
+    }
+
+    private static long run(MapGenerator.Settings settings, long millis) {
+        long end = System.nanoTime() + millis * 1_000_000;
+        long maps = 0, sink = 0;
+        while (System.nanoTime() < end || maps == 0) {
+            TileMap map = MapGenerator.generate(settings, maps);
+            sink += map.getExitX();
+            maps++;
+        }
+        if (sink == -1) System.out.println(); // keep the maps alive for the JIT
+        return maps;
+    }
+}
@@ -0,0 +1,218 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Versioned binary map files (*.bqmap), an alternative to the "x,y=type" properties files
+ * that loads without any text parsing.
+ *
+ * Layout, big-endian:
+ * <pre>
+ *   int   magic 'BQMP'
+ *   short version (2)
+ *   short reserved (0)
+ *   int   width, height
+ *   int   entranceX, entranceY  -1,-1 => the map has no entrance entry
+ *   int   exitX, exitY          -1,-1 => pick a destructible wall at random when loading
+ *   int   enemy spawn count
+ *   int   power-up spawn count
+ *   int   ignored entry count   entries of the source file with an unknown type code
+ *   byte  tile plane            width*height tile codes (TileMap.FLOOR, ...), row-major
+ *   int   x, y                  per enemy spawn
+ *   int   x, y, type            per power-up spawn (type 5 or 6, always under a destructible wall)
+ * </pre>
+ * A map converted from a properties file keeps everything {@link MapValidator} looks at, so both
+ * files get the same report. Version 1 files stored (0,0) for a missing entrance and are rejected.
+ */
+public class BinaryMapFormat {
+
+    public static final String EXTENSION = ".bqmap";
+    public static final int MAGIC = 0x42514D50; // "BQMP"
+    public static final int VERSION = 2;
+
+    private static final int HEADER_BYTES = 44;
+
+    /**
+     * Reads a binary map from the buffer, typically a mapped file, see {@code FilePort#map}.
+     *
+     * @param source name of the file, only used in error messages
+     * @throws MapFormatException if the buffer is not a supported binary map
+     */
+    public static TileMap read(ByteBuffer buffer, String source, Random random) {
+        TileMap tileMap = readUnfinished(buffer, source);
+        tileMap.finishLoading(random);
+        return tileMap;
+    }
+
+    /** Reads the map without picking a random exit yet, see {@link MapTemplate}. */
+    static TileMap readUnfinished(ByteBuffer buffer, String source) {
+        ByteBuffer in = buffer.duplicate();
+        try {
+            if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC) {
+                throw new MapFormatException(source, "not a binary map");
+            }
+            int version = in.getShort();
+            in.getShort(); // reserved
+            if (version != VERSION) {
+                throw new MapFormatException(source, "unsupported binary map version " + version);
+            }
+            int width = in.getInt(), height = in.getInt();
+            if (width <= 0 || height <= 0 || (long) width * height > in.remaining()) {
+                throw new MapFormatException(source, "bad dimensions " + width + "x" + height);
+            }
+            int entranceX = in.getInt(), entranceY = in.getInt();
+            int exitX = in.getInt(), exitY = in.getInt();
+            int enemyCount = in.getInt(), powerUpCount = in.getInt();
+            int ignoredEntries = in.getInt();
+
+            TileMap tileMap = new TileMap(width, height);
+            if (!tileMap.loadTilePlane(in)) {
+                throw new MapFormatException(source, "unknown tile code in the tile plane");
+            }
+            if (entranceX >= 0) tileMap.setEntrance(entranceX, entranceY);
+            if (exitX >= 0) tileMap.setSpecifiedExit(exitX, exitY);
+            for (int i = 0; i < enemyCount; i++) {
+                tileMap.addEnemySpawn(in.getInt(), in.getInt());
+            }
+            for (int i = 0; i < powerUpCount; i++) {
+                tileMap.addPowerUpSpawn(in.getInt(), in.getInt(), in.getInt());
+            }
+            tileMap.setIgnoredEntries(ignoredEntries);
+            return tileMap;
+        } catch (BufferUnderflowException e) {
+            throw new MapFormatException(source, "file is truncated");
+        }
+    }
+
+    /** True if the bytes start like a binary map. */
+    public static boolean isBinaryMap(byte[] bytes) {
+        return bytes.length >= 4 && ByteBuffer.wrap(bytes).getInt() == MAGIC;
+    }
+
+    /** Writes the map as loaded, i.e. without the effects of a match played on it. */
+    public static void write(TileMap tileMap, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeShort(0);
+        data.writeInt(tileMap.getWidth());
+        data.writeInt(tileMap.getHeight());
+        data.writeInt(tileMap.isEntranceSpecified() ? tileMap.getEntranceX() : -1);
+        data.writeInt(tileMap.isEntranceSpecified() ? tileMap.getEntranceY() : -1);
+        data.writeInt(tileMap.isExitSpecified() ? tileMap.getExitX() : -1);
+        data.writeInt(tileMap.isExitSpecified() ? tileMap.getExitY() : -1);
+        data.writeInt(tileMap.getEnemySpawns().size());
+        data.writeInt(tileMap.getPowerUpSpawns().size());
+        data.writeInt(tileMap.getIgnoredEntries());
+
+        byte[] row = new byte[tileMap.getWidth()];
+        for (int y = 0; y < tileMap.getHeight(); y++) {
+            for (int x = 0; x < row.length; x++) {
+                row[x] = (byte) tileMap.getTile(x, y);
+            }
+            data.write(row);
+        }
+        for (TileMap.EnemySpawn es : tileMap.getEnemySpawns()) {
+            data.writeInt(es.x);
+            data.writeInt(es.y);
+        }
+        for (TileMap.PowerUpSpawn ps : tileMap.getPowerUpSpawns()) {
+            data.writeInt(ps.x);
+            data.writeInt(ps.y);
+            data.writeInt(ps.type);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes the map back as a properties file that {@link MapParser} reads.
+     * Every spawn and the exit are written as stored, even where they are not under a destructible
+     * wall, so {@link MapValidator} reports the same problems for both files. Indestructible walls
+     * come after the exit and power-ups, which would otherwise turn their tile into a destructible wall.
+     * Entries with an unknown type code are not written, only their count is kept in binary maps.
+     *
+     * @throws IllegalArgumentException if the map cannot be expressed as "x,y=type" entries:
+     *     the exit or a power-up on plain floor, or anything outside the map
+     */
+    public static void writeProperties(TileMap tileMap, OutputStream out) throws IOException {
+        checkWritableAsProperties(tileMap);
+        PrintStream print = new PrintStream(new BufferedOutputStream(out), false, StandardCharsets.UTF_8);
+        Set<Long> specials = new HashSet<>();
+        for (TileMap.PowerUpSpawn ps : tileMap.getPowerUpSpawns()) {
+            specials.add(ItemLayer.key(ps.x, ps.y));
+        }
+        if (tileMap.isExitSpecified()) specials.add(ItemLayer.key(tileMap.getExitX(), tileMap.getExitY()));
+
+        if (tileMap.isEntranceSpecified()) {
+            print.println("# Entrance");
+            print.println(tileMap.getEntranceX() + "," + tileMap.getEntranceY() + "=2");
+        }
+        print.println("# Destructible walls");
+        for (int y = 0; y < tileMap.getHeight(); y++) {
+            for (int x = 0; x < tileMap.getWidth(); x++) {
+                if (tileMap.getTile(x, y) == TileMap.WALL_DESTRUCTIBLE && !specials.contains(ItemLayer.key(x, y))) {
+                    print.println(x + "," + y + "=1");
+                }
+            }
+        }
+        print.println("# The exit and power-ups");
+        if (tileMap.isExitSpecified()) {
+            print.println(tileMap.getExitX() + "," + tileMap.getExitY() + "=4");
+        }
+        for (TileMap.PowerUpSpawn ps : tileMap.getPowerUpSpawns()) {
+            print.println(ps.x + "," + ps.y + "=" + ps.type);
+        }
+        print.println("# Indestructible walls");
+        for (int y = 0; y < tileMap.getHeight(); y++) {
+            for (int x = 0; x < tileMap.getWidth(); x++) {
+                if (tileMap.getTile(x, y) == TileMap.WALL_INDESTRUCTIBLE) print.println(x + "," + y + "=0");
+            }
+        }
+        print.println("# Enemies");
+        for (TileMap.EnemySpawn es : tileMap.getEnemySpawns()) {
+            print.println(es.x + "," + es.y + "=3");
+        }
+        print.flush();
+    }
+
+    // Properties files size the map to their entries and always put a wall under the exit and power-ups
+    private static void checkWritableAsProperties(TileMap tileMap) {
+        if (tileMap.isEntranceSpecified()) {
+            checkInside(tileMap, tileMap.getEntranceX(), tileMap.getEntranceY(), "the entrance");
+        }
+        if (tileMap.isExitSpecified()) {
+            checkNotOnFloor(tileMap, tileMap.getExitX(), tileMap.getExitY(), "the exit");
+        }
+        for (TileMap.PowerUpSpawn ps : tileMap.getPowerUpSpawns()) {
+            checkNotOnFloor(tileMap, ps.x, ps.y, "a power-up");
+        }
+        for (TileMap.EnemySpawn es : tileMap.getEnemySpawns()) {
+            checkInside(tileMap, es.x, es.y, "an enemy");
+        }
+    }
+
+    private static void checkNotOnFloor(TileMap tileMap, int x, int y, String what) {
+        checkInside(tileMap, x, y, what);
+        if (tileMap.getTile(x, y) == TileMap.FLOOR) {
+            throw new IllegalArgumentException(what + " on floor at " + x + "," + y
+                + " cannot be written as a properties file, it would get a destructible wall");
+        }
+    }
+
+    private static void checkInside(TileMap tileMap, int x, int y, String what) {
+        if (!tileMap.inBounds(x, y)) {
+            throw new IllegalArgumentException(what + " at " + x + "," + y
+                + " is outside the map and cannot be written as a properties file");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.tum.cit.ase.bomberquest.sim.Pool;
+import de.tum.cit.ase.bomberquest.sim.TimerWheel;
+
+/**
+ * A tile-based bomb with a 3s fuse, the blast itself is resolved by the ExplosionResolver.
+ * The fuse and the blast duration are deadlines on the logic's TimerWheel,
+ * the bomb is not touched on frames where nothing happens to it.
+ * Bombs are pooled by GameMapLogic, see {@link GameMapLogic#placeBomb(int, int, int)}.
+ */
+public class Bomb implements Pool.Poolable {
+
+    private int bombX, bombY;
+    private int blastRadius;
+    private boolean exploded = false;
+
+    private float fuseTime = 3f;  // how many seconds until explosion
+    private float blastDuration = 0.28f; // total explosion frames time
+    private float placedAt;  // wheel time the fuse was lit
+    private float explodedAt;
+
+    long flameAt; // when the blast goes off, possibly set off early by another bomb, see DangerMap
+
+    private final List<ExplosionTile> affectedTiles = new ArrayList<>();
+
+    // Fires once when the fuse burns down and once when the blast is over
+    private final TimerWheel.Timer timer = new TimerWheel.Timer() {
+        @Override
+        protected void fire(TimerWheel wheel) {
+            onTimer(wheel);
+        }
+    };
+
+    private static final float FUSE_TIME_SECONDS = 3f;
+
+    private final GameMapLogic logic;
+
+    private boolean done = false; // means "completely finished, remove from list"
+    boolean queued = false; // waiting in the ExplosionResolver
+
+    // Links of the per-tile chain in OccupancyGrid
+    int occIndex = -1;
+    Bomb occPrev, occNext;
+
+    public boolean isDone() {
+    return done;
+}
+
+    public Bomb(int x, int y, int radius, GameMapLogic logic) {
+        this(logic);
+        init(x, y, radius);
+    }
+
+    /** An unlit bomb for the pool, {@link #init} lights it. */
+    Bomb(GameMapLogic logic) {
+        this.logic = logic;
+    }
+
+    /** Places the bomb on (x,y) and lights the fuse. */
+    void init(int x, int y, int radius) {
+        this.bombX = x;
+        this.bombY = y;
+        this.blastRadius = radius;
+        this.placedAt = logic.getTimers().now();
+        logic.getTimers().schedule(timer, fuseTime);
+        logic.getDanger().bombPlaced(this, timer.getDeadline());
+    }
+
+    @Override
+    public void reset() {
+        logic.getTimers().cancel(timer);
+        for (ExplosionTile tile : affectedTiles) {
+            logic.freeExplosionTile(tile);
+        }
+        affectedTiles.clear();
+        exploded = false;
+        done = false;
+        queued = false;
+        explodedAt = 0f;
+    }
+
+    private void onTimer(TimerWheel wheel) {
+        if (!exploded) {
+            // Fuse burnt down => the ExplosionResolver sets it off with everything else due this tick
+            logic.getExplosions().enqueue(this);
+        } else {
+            // Explosion animation ended => remove bomb from map
+            done = true;
+            logic.getExplosions().extinguish(this);
+            logic.bombFinished(this);
+        }
+    }
+
+    /**
+     * Called by the ExplosionResolver when this bomb goes off, either because its fuse
+     * burnt down or because another blast reached it. Starts the blast timer.
+     */
+    void detonate() {
+        TimerWheel wheel = logic.getTimers();
+        exploded = true;
+        explodedAt = wheel.now();
+        wheel.schedule(timer, blastDuration);
+    }
+
+    // The ExplosionResolver stores every tile of this bomb's blast here
+    void addAffectedTile(int x, int y) {
+        affectedTiles.add(logic.obtainExplosionTile(x, y));
+    }
+
+    public boolean isExploded() {
+        return exploded;
+    }
+
+    /** Seconds the fuse has been burning, drives the fuse animation. */
+    public float getAnimTime() {
+        return logic.getTimers().now() - placedAt;
+    }
+
+    /**
+     * How far the blast has progressed, from 0 (just exploded) to 1 (about to be removed).
+     */
+    public float getExplosionProgress() {
+        return (logic.getTimers().now() - explodedAt) / blastDuration;
+    }
+
+    /** The tiles covered by the blast, empty until the bomb explodes. */
+    public List<ExplosionTile> getAffectedTiles() {
+        return affectedTiles;
+    }
+
+    /** The next bomb on the same tile, see {@link OccupancyGrid#firstBombAt(int)}. */
+    public Bomb getNextOnTile() { return occNext; }
+
+    public int getBlastRadius() {return blastRadius;}
+    public int getX() {return bombX;}
+    public int getY() {return bombY;}
+}
@@ -0,0 +1,185 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Arrays;
+
+/**
+ * Per-tile side tables cut into the same 32x32 chunks as the {@link TileMap}, addressed by
+ * its chunk-major {@link TileMap#index(int, int)}. A chunk is allocated on its first write of
+ * a non-default value, so a table costs one reference per chunk plus the chunks that were
+ * actually touched, instead of a slot for every tile of the map.
+ * Chunks stay allocated once written, like the chunks of the map itself.
+ */
+final class ChunkedTable {
+
+    private ChunkedTable() {}
+
+    private static int chunk(int index) {
+        return index >>> TileMap.LOCAL_BITS;
+    }
+
+    private static int local(int index) {
+        return index & (TileMap.CHUNK_TILES - 1);
+    }
+
+    /** Ints with a default value, e.g. -1 for "not reached". */
+    static final class Ints {
+        private final int[][] chunks;
+        private final int empty;
+
+        Ints(TileMap tileMap, int empty) {
+            this.chunks = new int[tileMap.getChunkCount()][];
+            this.empty = empty;
+        }
+
+        int get(int index) {
+            int[] chunk = chunks[chunk(index)];
+            return chunk == null ? empty : chunk[local(index)];
+        }
+
+        void set(int index, int value) {
+            int c = chunk(index);
+            int[] chunk = chunks[c];
+            if (chunk == null) {
+                if (value == empty) return;
+                chunk = new int[TileMap.CHUNK_TILES];
+                if (empty != 0) Arrays.fill(chunk, empty);
+                chunks[c] = chunk;
+            }
+            chunk[local(index)] = value;
+        }
+    }
+
+    /** Longs with a default value, e.g. "no deadline". */
+    static final class Longs {
+        private final long[][] chunks;
+        private final long empty;
+
+        Longs(TileMap tileMap, long empty) {
+            this.chunks = new long[tileMap.getChunkCount()][];
+            this.empty = empty;
+        }
+
+        long get(int index) {
+            long[] chunk = chunks[chunk(index)];
+            return chunk == null ? empty : chunk[local(index)];
+        }
+
+        void set(int index, long value) {
+            int c = chunk(index);
+            long[] chunk = chunks[c];
+            if (chunk == null) {
+                if (value == empty) return;
+                chunk = new long[TileMap.CHUNK_TILES];
+                if (empty != 0) Arrays.fill(chunk, empty);
+                chunks[c] = chunk;
+            }
+            chunk[local(index)] = value;
+        }
+    }
+
+    /** Small counters starting at 0. */
+    static final class Shorts {
+        private final short[][] chunks;
+
+        Shorts(TileMap tileMap) {
+            this.chunks = new short[tileMap.getChunkCount()][];
+        }
+
+        int get(int index) {
+            short[] chunk = chunks[chunk(index)];
+            return chunk == null ? 0 : chunk[local(index)];
+        }
+
+        /** Adds delta to the tile's counter and returns the new value. */
+        int add(int index, int delta) {
+            int c = chunk(index);
+            short[] chunk = chunks[c];
+            if (chunk == null) {
+                chunk = new short[TileMap.CHUNK_TILES];
+                chunks[c] = chunk;
+            }
+            return chunk[local(index)] += (short) delta;
+        }
+    }
+
+    /** Bytes starting at 0. */
+    static final class Bytes {
+        private final byte[][] chunks;
+
+        Bytes(TileMap tileMap) {
+            this.chunks = new byte[tileMap.getChunkCount()][];
+        }
+
+        byte get(int index) {
+            byte[] chunk = chunks[chunk(index)];
+            return chunk == null ? 0 : chunk[local(index)];
+        }
+
+        void set(int index, byte value) {
+            int c = chunk(index);
+            byte[] chunk = chunks[c];
+            if (chunk == null) {
+                if (value == 0) return;
+                chunk = new byte[TileMap.CHUNK_TILES];
+                chunks[c] = chunk;
+            }
+            chunk[local(index)] = value;
+        }
+    }
+
+    /** One bit per tile, 16 longs per chunk. */
+    static final class Bits {
+        private static final int WORDS = TileMap.CHUNK_TILES >>> 6;
+        private final long[][] chunks;
+
+        Bits(TileMap tileMap) {
+            this.chunks = new long[tileMap.getChunkCount()][];
+        }
+
+        boolean get(int index) {
+            long[] chunk = chunks[chunk(index)];
+            return chunk != null && (chunk[local(index) >>> 6] & (1L << index)) != 0;
+        }
+
+        void set(int index) {
+            int c = chunk(index);
+            long[] chunk = chunks[c];
+            if (chunk == null) {
+                chunk = new long[WORDS];
+                chunks[c] = chunk;
+            }
+            chunk[local(index) >>> 6] |= 1L << index;
+        }
+
+        void clear(int index) {
+            long[] chunk = chunks[chunk(index)];
+            if (chunk != null) chunk[local(index) >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /** References, null by default. */
+    static final class Refs<T> {
+        private final Object[][] chunks;
+
+        Refs(TileMap tileMap) {
+            this.chunks = new Object[tileMap.getChunkCount()][];
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int index) {
+            Object[] chunk = chunks[chunk(index)];
+            return chunk == null ? null : (T) chunk[local(index)];
+        }
+
+        void set(int index, T value) {
+            int c = chunk(index);
+            Object[] chunk = chunks[c];
+            if (chunk == null) {
+                if (value == null) return;
+                chunk = new Object[TileMap.CHUNK_TILES];
+                chunks[c] = chunk;
+            }
+            chunk[local(index)] = value;
+        }
+    }
+}
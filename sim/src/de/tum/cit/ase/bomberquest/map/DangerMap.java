@@ -0,0 +1,155 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import de.tum.cit.ase.bomberquest.sim.TimerWheel;
+
+/**
+ * For every tile: when the next flame will reach it, so enemies (and later a bot) can stay
+ * out of blasts without looking at every bomb.
+ *
+ * The field is kept up to date incrementally. A placed bomb stamps its blast tiles with its
+ * detonation deadline, using the same reach as the ExplosionResolver ({@link TileMap#getBlastReach}),
+ * and passes an earlier deadline on to bombs it would set off. When bombs detonate, only their
+ * own tiles are recomputed from the bombs still ticking around them.
+ * Both tables are chunked, only chunks a blast ever covered take memory.
+ */
+public class DangerMap {
+
+    /** Deadline of a tile no pending bomb reaches. */
+    public static final long SAFE = Long.MAX_VALUE;
+
+    private final GameMapLogic logic;
+    private final TileMap tileMap;
+
+    private final ChunkedTable.Longs flameAt;     // wheel tick of the next flame, SAFE if none
+    private final ChunkedTable.Shorts coverCount; // pending bombs whose blast covers the tile
+    private int maxRadius = 0;         // largest radius ever placed, bounds the reverse search
+
+    private int[] dirty = new int[64]; // tiles to recompute after a resolve
+    private int dirtyCount = 0;
+    private final ArrayDeque<Bomb> chain = new ArrayDeque<>();
+
+    public DangerMap(GameMapLogic logic, TileMap tileMap) {
+        this.logic = logic;
+        this.tileMap = tileMap;
+        this.flameAt = new ChunkedTable.Longs(tileMap, SAFE);
+        this.coverCount = new ChunkedTable.Shorts(tileMap);
+    }
+
+    /**
+     * Seconds until a flame reaches (x,y): 0 if the tile burns right now,
+     * {@link Float#POSITIVE_INFINITY} if no pending bomb reaches it. O(1).
+     */
+    public float timeUntilFlame(int x, int y) {
+        if (!tileMap.inBounds(x, y)) return Float.POSITIVE_INFINITY;
+        int index = tileMap.index(x, y);
+        if ((tileMap.getFlagsUnchecked(index) & TileMap.FLAG_ON_FIRE) != 0) return 0f;
+        long at = flameAt.get(index);
+        if (at == SAFE) return Float.POSITIVE_INFINITY;
+        long ticks = at - logic.getTimers().nowTicks();
+        return Math.max(ticks, 0) / (float) TimerWheel.TICKS_PER_SECOND;
+    }
+
+    /** Called once a bomb's fuse is lit. */
+    void bombPlaced(Bomb bomb, long deadline) {
+        int index = tileMap.index(bomb.getX(), bomb.getY());
+        // a bomb inside another blast goes off with it
+        bomb.flameAt = Math.min(deadline, flameAt.get(index));
+        maxRadius = Math.max(maxRadius, bomb.getBlastRadius());
+        stamp(bomb, true);
+
+        // the new bomb can set off others earlier than their own fuse, pass that on
+        Bomb next;
+        while ((next = chain.poll()) != null) {
+            stamp(next, false);
+        }
+    }
+
+    /** Called by the ExplosionResolver for every bomb that goes off, before {@link #flush()}. */
+    void bombDetonated(Bomb bomb) {
+        forEachBlastTile(bomb, index -> {
+            if (coverCount.add(index, -1) == 0) {
+                flameAt.set(index, SAFE);
+            } else {
+                markDirty(index);
+            }
+        });
+    }
+
+    /** Recomputes the tiles that are still covered by bombs after this tick's detonations. */
+    void flush() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int index = dirty[i];
+            if (coverCount.get(index) > 0) flameAt.set(index, earliestCovering(index));
+        }
+        dirtyCount = 0;
+    }
+
+    // Writes the bomb's deadline into its blast tiles, queueing bombs that now go off earlier
+    private void stamp(Bomb bomb, boolean count) {
+        long at = bomb.flameAt;
+        forEachBlastTile(bomb, index -> {
+            if (count) coverCount.add(index, 1);
+            if (at < flameAt.get(index)) flameAt.set(index, at);
+            for (Bomb other = logic.getOccupancy().firstBombAt(index); other != null; other = other.getNextOnTile()) {
+                if (other != bomb && !other.isExploded() && at < other.flameAt) {
+                    other.flameAt = at;
+                    chain.add(other);
+                }
+            }
+        });
+    }
+
+    /**
+     * The earliest deadline of the pending bombs whose blast covers the tile.
+     * Blasts only stop at indestructible walls, so looking outward from the tile
+     * walks the same tiles as the blasts walking in.
+     */
+    private long earliestCovering(int index) {
+        int x = tileMap.indexX(index), y = tileMap.indexY(index);
+        long best = earliestAt(index, 0);
+        for (int dir = 0; dir < 4; dir++) {
+            int dx = TileMap.stepX(dir), dy = TileMap.stepY(dir);
+            for (int i = 1; i <= maxRadius; i++) {
+                int nx = x + dx * i, ny = y + dy * i;
+                if (!tileMap.inBounds(nx, ny)) break;
+                int n = tileMap.index(nx, ny);
+                byte flags = tileMap.getFlagsUnchecked(n);
+                if ((flags & TileMap.FLAG_BLOCKED) != 0 && (flags & TileMap.FLAG_DESTRUCTIBLE) == 0) break;
+                best = Math.min(best, earliestAt(n, i));
+            }
+        }
+        return best;
+    }
+
+    // Earliest pending bomb on the tile that reaches 'distance' tiles
+    private long earliestAt(int index, int distance) {
+        long best = SAFE;
+        for (Bomb b = logic.getOccupancy().firstBombAt(index); b != null; b = b.getNextOnTile()) {
+            if (!b.isExploded() && b.getBlastRadius() >= distance) best = Math.min(best, b.flameAt);
+        }
+        return best;
+    }
+
+    private void forEachBlastTile(Bomb bomb, IntConsumer action) {
+        int x = bomb.getX(), y = bomb.getY();
+        action.accept(tileMap.index(x, y));
+        for (int dir = 0; dir < 4; dir++) {
+            int reach = tileMap.getBlastReach(x, y, dir, bomb.getBlastRadius());
+            int dx = TileMap.stepX(dir), dy = TileMap.stepY(dir);
+            for (int i = 1; i <= reach; i++) {
+                action.accept(tileMap.index(x + dx * i, y + dy * i));
+            }
+        }
+    }
+
+    private void markDirty(int index) {
+        if (dirtyCount == dirty.length) {
+            dirty = Arrays.copyOf(dirty, dirtyCount * 2);
+        }
+        dirty[dirtyCount++] = index;
+    }
+}
@@ -0,0 +1,189 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.sim.TimerWheel;
+
+/**
+ * A tile-based enemy that moves one tile every 1 second, towards the player when it is
+ * within {@link #CHASE_RANGE} tiles of walking distance and randomly otherwise,
+ * and uses direction-based animations.
+ * The way to the player comes from the shared {@link FlowField}, not a search per enemy,
+ * and steps into tiles a blast will reach before the next step are avoided using the {@link DangerMap}.
+ * Each enemy draws from its own random stream, so steps can be planned in any order or in parallel,
+ * see {@link EnemyStepper}.
+ * Its steps are scheduled on the logic's TimerWheel, between steps it costs nothing.
+ */
+public class Enemy {
+
+    public enum Direction { UP, DOWN, LEFT, RIGHT }
+
+    /** Walking distance in tiles from which enemies start chasing the player. */
+    public static final int CHASE_RANGE = 8;
+
+    private int tileX, tileY;
+    private final TileMap tileMap;
+    private final GameMapLogic logic;
+
+    // For random movement:
+    private float dirInterval = 1f;
+    private int dx = 0, dy = 0;
+    private Direction currentDirection = Direction.DOWN;
+    private final Random random;
+
+    // Every 'dirInterval' seconds, step towards the player or pick a random direction, and move 1 tile.
+    // The EnemyStepper runs the step once all timers of the tick have fired.
+    // Touching the player is checked once per tick in GameMapLogic via the OccupancyGrid.
+    private final TimerWheel.Timer stepTimer = new TimerWheel.Timer() {
+        @Override
+        protected void fire(TimerWheel wheel) {
+            logic.getEnemyStepper().add(Enemy.this);
+            wheel.schedule(this, dirInterval);
+        }
+    };
+
+    // For animations:
+    private final float spawnedAt;
+
+    private boolean dead = false;
+
+    // Links of the per-tile chain in OccupancyGrid
+    int occIndex = -1;
+    Enemy occPrev, occNext;
+
+    public Enemy(TileMap tileMap, int startX, int startY, GameMapLogic logic) {
+        this.tileMap = tileMap;
+        this.tileX = startX;
+        this.tileY = startY;
+        this.logic = logic;
+        this.random = new Random(logic.getRandom().nextLong());
+        this.spawnedAt = logic.getTimers().now();
+        logic.getTimers().schedule(stepTimer, dirInterval);
+    }
+
+    /**
+     * Decides the next step (dx/dy and currentDirection). Only reads shared state,
+     * so it is safe to call for many enemies at once.
+     */
+    void planStep() {
+        int towardsPlayer = logic.getFlowField().directionToPlayer(tileX, tileY);
+        if (towardsPlayer != FlowField.NONE) {
+            setDirection(towardsPlayer);
+        } else {
+            pickRandomDirection();
+        }
+        avoidDanger();
+    }
+
+    /** The row the planned step ends on, if it is not blocked. */
+    int getPlannedTileY() {
+        return tileY + dy;
+    }
+
+    /**
+     * Makes the planned step. Must be called on the logic's thread, or by the EnemyStepper
+     * for a step that stays inside a band.
+     */
+    void applyStep() {
+        if (!dead) tryMove(dx, dy);
+    }
+
+    /**
+     * Picks a random direction among (R, L, U, D), 
+     * sets dx/dy accordingly, and updates currentDirection
+     * so we select the correct animation.
+     */
+    private void pickRandomDirection() {
+        int r = random.nextInt(4);
+        switch(r) {
+            case 0:
+                dx = 1; dy = 0;
+                currentDirection = Direction.RIGHT;
+                break;
+            case 1:
+                dx = -1; dy = 0;
+                currentDirection = Direction.LEFT;
+                break;
+            case 2:
+                dx = 0; dy = 1;
+                currentDirection = Direction.UP;
+                break;
+            case 3:
+                dx = 0; dy = -1;
+                currentDirection = Direction.DOWN;
+                break;
+        }
+    }
+
+    /** Sets dx/dy and currentDirection from a TileMap direction (UP, DOWN, RIGHT, LEFT). */
+    private void setDirection(int dir) {
+        dx = TileMap.stepX(dir);
+        dy = TileMap.stepY(dir);
+        switch (dir) {
+            case TileMap.UP: currentDirection = Direction.UP; break;
+            case TileMap.DOWN: currentDirection = Direction.DOWN; break;
+            case TileMap.RIGHT: currentDirection = Direction.RIGHT; break;
+            default: currentDirection = Direction.LEFT; break;
+        }
+    }
+
+    /**
+     * If the chosen step ends on a tile that burns before the next step, picks the option
+     * (staying or one of the free neighbours) whose flame comes last instead.
+     */
+    private void avoidDanger() {
+        DangerMap danger = logic.getDanger();
+        int tx = tileX + dx, ty = tileY + dy;
+        if (tileMap.isBlocked(tx, ty)) { tx = tileX; ty = tileY; }
+        if (danger.timeUntilFlame(tx, ty) > dirInterval) return;
+
+        // staying put first, so ties do not make the enemy wander
+        float best = danger.timeUntilFlame(tileX, tileY);
+        int bestDir = -1;
+        for (int dir = 0; dir < 4; dir++) {
+            int nx = tileX + TileMap.stepX(dir), ny = tileY + TileMap.stepY(dir);
+            if (tileMap.isBlocked(nx, ny)) continue;
+            float t = danger.timeUntilFlame(nx, ny);
+            if (t > best) {
+                best = t;
+                bestDir = dir;
+            }
+        }
+        if (bestDir >= 0) {
+            setDirection(bestDir);
+        } else {
+            dx = 0;
+            dy = 0;
+        }
+    }
+
+    /**
+     * Attempt to move one tile in the chosen direction,
+     * checking whether the tile is blocked.
+     */
+    private void tryMove(int dx,int dy) {
+        int nx = tileX + dx;
+        int ny = tileY + dy;
+        if (!tileMap.isBlocked(nx, ny)) {
+            tileX = nx;
+            tileY = ny;
+            logic.getOccupancy().moveEnemy(this);
+        }
+    }
+
+    /** Marks the enemy as killed, GameMapLogic drops it from its list at the next update. */
+    void kill() {
+        dead = true;
+        logic.getTimers().cancel(stepTimer);
+    }
+
+    public boolean isDead() { return dead; }
+
+    /** The next enemy on the same tile, see {@link OccupancyGrid#firstEnemyAt(int)}. */
+    public Enemy getNextOnTile() { return occNext; }
+
+    public int getTileX() { return tileX; }
+    public int getTileY() { return tileY; }
+    public Direction getDirection() { return currentDirection; }
+    public float getAnimTime() { return logic.getTimers().now() - spawnedAt; }
+}
@@ -0,0 +1,141 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the enemy steps that came due during one {@code TimerWheel.advance}.
+ *
+ * A step is split in two: {@link Enemy#planStep()} decides where to go, reading only the map,
+ * the flow field, the danger map and the enemy's own random stream, and {@link Enemy#applyStep()}
+ * moves it and updates the OccupancyGrid. In parallel mode the due enemies are grouped into
+ * horizontal bands one chunk high, and the bands are planned on the fork-join pool. A band also
+ * applies the moves that end inside it, away from its first and last row: those only touch the
+ * OccupancyGrid chunks of that band, and no other enemy arrives on those tiles this tick.
+ * Moves that end on a band's edge rows, which includes every move into another band, are
+ * applied serially afterwards. Within each group the moves happen in the order the step timers
+ * fired, so every tile sees its arrivals in the same order as in sequential mode and both modes
+ * give exactly the same match.
+ */
+public class EnemyStepper {
+
+    /** Rows of the map per band, a chunk row, so bands never write the same chunk. */
+    public static final int BAND_ROWS = TileMap.CHUNK_SIZE;
+    /** Below this many due enemies the fork-join overhead is not worth it, even in parallel mode. */
+    public static final int PARALLEL_THRESHOLD = 512;
+    // a task steps whole bands until it has at most this many enemies
+    private static final int TASK_SIZE = 256;
+
+    private final GameMapLogic logic;
+    private final int bandCount;
+    private boolean parallel = false;
+
+    private Enemy[] due = new Enemy[64];      // firing order, also the apply order
+    private int dueCount = 0;
+    private int[] byBand = new int[64];       // positions in due, sorted by band
+    private boolean[] deferred = new boolean[64]; // due[i] is applied in the serial merge
+    private final int[] bandStart;            // byBand[bandStart[b] .. bandStart[b+1]) is band b
+
+    public EnemyStepper(GameMapLogic logic, TileMap tileMap) {
+        this.logic = logic;
+        this.bandCount = (tileMap.getHeight() + BAND_ROWS - 1) / BAND_ROWS;
+        this.bandStart = new int[bandCount + 1];
+    }
+
+    /** Switches between stepping on the calling thread and stepping bands on the fork-join pool. */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** Called by an enemy's step timer, the step itself happens in {@link #run()}. */
+    void add(Enemy enemy) {
+        if (dueCount == due.length) {
+            due = Arrays.copyOf(due, dueCount * 2);
+        }
+        due[dueCount++] = enemy;
+    }
+
+    /** Plans and applies every step added since the last run. */
+    public void run() {
+        if (dueCount == 0) return;
+        // the lazy rebuild must not happen concurrently, do it up front
+        logic.getFlowField().refresh();
+
+        // with a single worker the bands would only run one after another, at extra cost
+        if (parallel && dueCount >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            sortIntoBands();
+            ForkJoinPool.commonPool().invoke(new BandTask(0, bandCount));
+            // serial merge of the edge-row moves, in firing order
+            for (int i = 0; i < dueCount; i++) {
+                if (deferred[i]) due[i].applyStep();
+                due[i] = null;
+            }
+        } else {
+            for (int i = 0; i < dueCount; i++) {
+                due[i].planStep();
+            }
+            for (int i = 0; i < dueCount; i++) {
+                due[i].applyStep();
+                due[i] = null;
+            }
+        }
+        dueCount = 0;
+    }
+
+    // Counting sort of the due enemies by band
+    private void sortIntoBands() {
+        if (byBand.length < dueCount) {
+            byBand = new int[due.length];
+            deferred = new boolean[due.length];
+        }
+        Arrays.fill(bandStart, 0);
+        for (int i = 0; i < dueCount; i++) {
+            bandStart[due[i].getTileY() / BAND_ROWS + 1]++;
+        }
+        for (int b = 0; b < bandCount; b++) {
+            bandStart[b + 1] += bandStart[b];
+        }
+        // bandStart[b] is used as the write cursor, then shifted back
+        for (int i = 0; i < dueCount; i++) {
+            byBand[bandStart[due[i].getTileY() / BAND_ROWS]++] = i;
+        }
+        for (int b = bandCount; b > 0; b--) {
+            bandStart[b] = bandStart[b - 1];
+        }
+        bandStart[0] = 0;
+    }
+
+    /** Steps the enemies of bands [from, to), splitting while there is enough work. */
+    private class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from, to;
+
+        BandTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && bandStart[to] - bandStart[from] > TASK_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new BandTask(from, mid), new BandTask(mid, to));
+                return;
+            }
+            for (int i = bandStart[from]; i < bandStart[to]; i++) {
+                int d = byBand[i];
+                Enemy enemy = due[d];
+                enemy.planStep();
+                int row = enemy.getPlannedTileY() % BAND_ROWS;
+                deferred[d] = row == 0 || row == BAND_ROWS - 1;
+                if (!deferred[d]) enemy.applyStep();
+            }
+        }
+    }
+}
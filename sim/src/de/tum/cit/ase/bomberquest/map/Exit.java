@@ -0,0 +1,20 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * Represents the exit point in the game.
+ */
+public class Exit {
+    private final int tileX, tileY;
+
+    public Exit(int tileX, int tileY) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+    }
+
+    public int getTileX() {
+        return tileX;
+    }
+    public int getTileY() {
+        return tileY;
+    }
+}
@@ -0,0 +1,141 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import de.tum.cit.ase.bomberquest.sim.AudioPort;
+
+/**
+ * Resolves every detonation of a tick in one pass.
+ *
+ * Bombs whose fuse burnt down are queued here instead of exploding on their own.
+ * {@link #resolve()} then works through the queue: a blast that reaches another live bomb
+ * queues that bomb too, so whole chains go off in the same tick. Each tile is damaged at most
+ * once per tick (tracked in a chunked bitset), no matter how many blasts cross it, and the flame tiles
+ * of the tick are collected in one buffer and flagged on the map in bulk.
+ */
+public class ExplosionResolver {
+
+    private final GameMapLogic logic;
+    private final TileMap tileMap;
+
+    private final ArrayDeque<Bomb> queue = new ArrayDeque<>();
+
+    // Tiles already damaged this tick, cleared through the flame buffer afterwards
+    private final ChunkedTable.Bits hitThisTick;
+    // Flame tiles emitted this tick
+    private int[] flames = new int[64];
+    private int flameCount = 0;
+    // How many live blasts cover a tile, FLAG_ON_FIRE stays set while this is > 0
+    private final ChunkedTable.Shorts fireRefs;
+
+    public ExplosionResolver(GameMapLogic logic, TileMap tileMap) {
+        this.logic = logic;
+        this.tileMap = tileMap;
+        this.hitThisTick = new ChunkedTable.Bits(tileMap);
+        this.fireRefs = new ChunkedTable.Shorts(tileMap);
+    }
+
+    /** Queues a bomb to go off in the next {@link #resolve()}. */
+    public void enqueue(Bomb bomb) {
+        if (bomb.isExploded() || bomb.queued) return;
+        bomb.queued = true;
+        queue.add(bomb);
+    }
+
+    public boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    /**
+     * Detonates every queued bomb and every bomb their blasts reach.
+     * @return how many bombs went off
+     */
+    public int resolve() {
+        if (queue.isEmpty()) return 0;
+        int detonated = 0;
+        flameCount = 0;
+
+        Bomb bomb;
+        while ((bomb = queue.poll()) != null) {
+            bomb.queued = false;
+            bomb.detonate();
+            logic.getDanger().bombDetonated(bomb);
+            detonated++;
+
+            // center tile, then the four rays. The reach comes from the map's ray tables,
+            // so no tile along the way has to be tested for walls.
+            burn(bomb, bomb.getX(), bomb.getY());
+            for (int dir = 0; dir < 4; dir++) {
+                int reach = tileMap.getBlastReach(bomb.getX(), bomb.getY(), dir, bomb.getBlastRadius());
+                int dx = TileMap.stepX(dir), dy = TileMap.stepY(dir);
+                for (int i = 1; i <= reach; i++) {
+                    burn(bomb, bomb.getX() + dx * i, bomb.getY() + dy * i);
+                }
+            }
+        }
+
+        // Flag every flame tile of the tick and reset the per-tick bitset
+        for (int i = 0; i < flameCount; i++) {
+            int index = flames[i];
+            hitThisTick.clear(index);
+            tileMap.setFlagUnchecked(index, TileMap.FLAG_ON_FIRE);
+        }
+
+        // The danger around the blasts now only comes from bombs that are still ticking
+        logic.getDanger().flush();
+
+        // One sound for the whole chain
+        logic.getAudio().play(AudioPort.Cue.BOMB_EXPLODE);
+        return detonated;
+    }
+
+    /**
+     * Damages (x,y) unless it was already hit this tick, records the flame and queues bombs on it.
+     * (x,y) must be within the blast reach, so it is never outside the map or an indestructible wall.
+     */
+    private void burn(Bomb bomb, int x, int y) {
+        int index = tileMap.index(x, y);
+
+        if (!hitThisTick.get(index)) {
+            logic.handleExplosionTile(x, y);
+            hitThisTick.set(index);
+            appendFlame(index);
+
+            // chain reaction: light every other live bomb on this tile
+            for (Bomb other = logic.getOccupancy().firstBombAt(index); other != null; other = other.getNextOnTile()) {
+                enqueue(other);
+            }
+        }
+
+        // Each blast shows its own flame, even on tiles another blast damaged first
+        bomb.addAffectedTile(x, y);
+        fireRefs.add(index, 1);
+    }
+
+    private void appendFlame(int index) {
+        if (flameCount == flames.length) {
+            flames = Arrays.copyOf(flames, flameCount * 2);
+        }
+        flames[flameCount++] = index;
+    }
+
+    /** Called when a blast ends, puts out its flames unless another blast still covers them. */
+    void extinguish(Bomb bomb) {
+        for (ExplosionTile tile : bomb.getAffectedTiles()) {
+            int index = tileMap.index(tile.x, tile.y);
+            if (fireRefs.add(index, -1) == 0) {
+                tileMap.clearFlagUnchecked(index, TileMap.FLAG_ON_FIRE);
+            }
+        }
+    }
+
+    /** Flame tiles (as tile indices) emitted by the last {@link #resolve()}. */
+    public int[] getFlames() {
+        return flames;
+    }
+
+    public int getFlameCount() {
+        return flameCount;
+    }
+}
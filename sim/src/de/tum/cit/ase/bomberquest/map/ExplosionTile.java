@@ -0,0 +1,17 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import de.tum.cit.ase.bomberquest.sim.Pool;
+
+public class ExplosionTile implements Pool.Poolable {
+    int x, y;
+    ExplosionTile() { }
+    ExplosionTile(int x, int y) { this.x = x; this.y = y; }
+
+    void set(int x, int y) { this.x = x; this.y = y; }
+
+    @Override
+    public void reset() { x = 0; y = 0; }
+
+    public int getX() { return x; }
+    public int getY() { return y; }
+}
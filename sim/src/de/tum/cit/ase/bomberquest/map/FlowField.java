@@ -0,0 +1,112 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Arrays;
+
+/**
+ * Shared navigation service for enemies that chase the player.
+ *
+ * Instead of every enemy searching a path, one breadth-first search runs outward from the
+ * player's tile and stores, for every reached tile, the distance to the player and the direction
+ * of the first step towards it. Any number of enemies then read their next step in O(1).
+ *
+ * The field is rebuilt lazily, only when it is queried after the player changed tile or a wall
+ * was placed or destroyed, and only out to {@code maxDistance} tiles. Distances and directions
+ * are kept in chunked tables and the queue grows as needed, so memory follows the reached area.
+ */
+public class FlowField {
+
+    /** Returned by {@link #directionToPlayer} when there is no path within range. */
+    public static final int NONE = -1;
+
+    private final TileMap tileMap;
+    private final OccupancyGrid occupancy;
+    private final int maxDistance;
+
+    private final ChunkedTable.Ints distance;   // -1 => not reached
+    private final ChunkedTable.Bytes direction; // TileMap.UP/DOWN/RIGHT/LEFT towards the player
+    private int[] queue = new int[256];         // BFS queue, also the list of tiles to reset next time
+    private int reached = 0;
+
+    private int builtForPlayer = -2;
+    private int builtForWalls = -1;
+    private int rebuilds = 0;
+
+    public FlowField(TileMap tileMap, OccupancyGrid occupancy, int maxDistance) {
+        this.tileMap = tileMap;
+        this.occupancy = occupancy;
+        this.maxDistance = maxDistance;
+        this.distance = new ChunkedTable.Ints(tileMap, -1);
+        this.direction = new ChunkedTable.Bytes(tileMap);
+    }
+
+    /**
+     * The direction (TileMap.UP, DOWN, RIGHT or LEFT) of the first step from (x,y) towards the player,
+     * or {@link #NONE} if the player is out of range, unreachable or already on (x,y).
+     */
+    public int directionToPlayer(int x, int y) {
+        if (!tileMap.inBounds(x, y)) return NONE;
+        refresh();
+        int index = tileMap.index(x, y);
+        return distance.get(index) > 0 ? direction.get(index) : NONE;
+    }
+
+    /** Walking distance from (x,y) to the player, -1 if out of range or unreachable. */
+    public int distanceToPlayer(int x, int y) {
+        if (!tileMap.inBounds(x, y)) return -1;
+        refresh();
+        return distance.get(tileMap.index(x, y));
+    }
+
+    /** How often the field has been rebuilt, for benchmarks. */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    /** Rebuilds the field now if it is stale, queries afterwards only read it. */
+    public void refresh() {
+        int player = occupancy.getPlayerIndex();
+        if (player == builtForPlayer && tileMap.getWallVersion() == builtForWalls) return;
+        builtForPlayer = player;
+        builtForWalls = tileMap.getWallVersion();
+        rebuild(player);
+    }
+
+    private void rebuild(int player) {
+        rebuilds++;
+        // only the tiles reached last time need resetting
+        for (int i = 0; i < reached; i++) {
+            distance.set(queue[i], -1);
+        }
+        reached = 0;
+        if (player < 0) return;
+
+        distance.set(player, 0);
+        queue[reached++] = player;
+        for (int head = 0; head < reached; head++) {
+            int current = queue[head];
+            int d = distance.get(current);
+            if (d >= maxDistance) continue;
+            int cx = tileMap.indexX(current), cy = tileMap.indexY(current);
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx + TileMap.stepX(dir), ny = cy + TileMap.stepY(dir);
+                if (!tileMap.inBounds(nx, ny)) continue;
+                int next = tileMap.index(nx, ny);
+                if (distance.get(next) >= 0 || tileMap.isBlockedUnchecked(next)) continue;
+                distance.set(next, d + 1);
+                // from next, the step towards the player goes back the way we came
+                direction.set(next, (byte) opposite(dir));
+                if (reached == queue.length) queue = Arrays.copyOf(queue, reached * 2);
+                queue[reached++] = next;
+            }
+        }
+    }
+
+    private static int opposite(int dir) {
+        switch (dir) {
+            case TileMap.UP: return TileMap.DOWN;
+            case TileMap.DOWN: return TileMap.UP;
+            case TileMap.RIGHT: return TileMap.LEFT;
+            default: return TileMap.RIGHT;
+        }
+    }
+}
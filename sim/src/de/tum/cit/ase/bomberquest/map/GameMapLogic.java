@@ -0,0 +1,270 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.sim.AudioPort;
+import de.tum.cit.ase.bomberquest.sim.Pool;
+import de.tum.cit.ase.bomberquest.sim.TimerWheel;
+
+/**
+ * Manages the tile-based logic: bombs, enemies, powerups, 
+ * destruction of walls, killing player, etc.
+ */
+public class GameMapLogic {
+
+    private final TileMap tileMap;
+    private Player player;
+    private final AudioPort audio;
+    private final Random random;
+
+    private final List<Bomb> bombs = new ArrayList<>();
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final List<PowerUp> powerUps = new ArrayList<>();
+    private final OccupancyGrid occupancy;
+    private final TimerWheel timers = new TimerWheel(); // fuses, blast ends and enemy steps
+    private final ExplosionResolver explosions;
+    private final FlowField flowField;    // shared path to the player for chasing enemies
+    private final DangerMap danger;       // when the next flame reaches each tile
+    private final EnemyStepper enemyStepper;
+    private int deadEnemies = 0; // killed but still in the enemies list
+    private int lastPlayerIndex = -1; // tile the items under the player were last checked for
+
+    private boolean gameOver = false;
+    private String gameOverReason = "";
+    private boolean exitUnlocked = false;
+    private final Exit exit;          // known from the map, only handed out once revealed
+    private boolean exitRevealed = false;
+
+    // Short-lived objects are recycled instead of left to the garbage collector
+    private final Pool<Bomb> bombPool = new Pool<>(() -> new Bomb(this));
+    private final Pool<ExplosionTile> explosionTilePool = new Pool<>(ExplosionTile::new, 256, Integer.MAX_VALUE);
+    private final Pool<PowerUp> powerUpPool = new Pool<>(PowerUp::new);
+
+    public GameMapLogic(TileMap tileMap, Player player, AudioPort audio, Random random) {
+        this.tileMap = tileMap;
+        this.player = player;
+        this.audio = audio;
+        this.random = random;
+        this.occupancy = new OccupancyGrid(tileMap);
+        this.explosions = new ExplosionResolver(this, tileMap);
+        this.flowField = new FlowField(tileMap, occupancy, Enemy.CHASE_RANGE);
+        this.danger = new DangerMap(this, tileMap);
+        this.enemyStepper = new EnemyStepper(this, tileMap);
+        this.exit = new Exit(tileMap.getExitX(), tileMap.getExitY());
+        if (player != null) occupancy.movePlayer(player.getTileX(), player.getTileY());
+    }
+
+    public void addBomb(Bomb bomb) {
+        bombs.add(bomb);
+        occupancy.addBomb(bomb);
+    }
+
+    /** Takes a bomb from the pool, lights it on (x,y) and adds it to the map. */
+    public Bomb placeBomb(int x, int y, int radius) {
+        Bomb bomb = bombPool.obtain();
+        bomb.init(x, y, radius);
+        addBomb(bomb);
+        return bomb;
+    }
+
+    /**
+     * Called once per tick from Match.
+     */
+    public void update(float delta) {
+        if (gameOver) return; // Freeze logic if game ended
+
+        // 1) + 2) Fire every fuse, blast end and enemy step that is due, in deadline order.
+        //    Bombs and enemies whose deadline has not arrived are not touched at all.
+        timers.advance(delta);
+        // Enemies whose step came due only queued themselves, move them all now (optionally in parallel)
+        enemyStepper.run();
+        // Fuses that burnt down only queued their bomb, set them all off (plus chains) at once
+        explosions.resolve();
+
+        // => While the blasts resolve, handleExplosionTile(...) only marks enemies dead,
+        //    drop them from the list in one pass now.
+        if (deadEnemies > 0) {
+            enemies.removeIf(Enemy::isDead);
+            deadEnemies = 0;
+        }
+
+        // One lookup instead of every enemy comparing itself against the player
+        int playerIndex = occupancy.getPlayerIndex();
+        if (playerIndex >= 0 && occupancy.hasEnemyAt(playerIndex)) {
+            killPlayer("Enemy touched you!");
+        }
+
+        // 3) Check if player stands on a power‐up, only needed when the player entered a new tile
+        boolean enteredTile = occupancy.getPlayerIndex() != lastPlayerIndex;
+        lastPlayerIndex = occupancy.getPlayerIndex();
+        if (enteredTile) {
+            // If the player is on that tile => apply powerup => remove
+            PowerUp p = tileMap.getItems().pickUpPowerUp(player.getTileX(), player.getTileY());
+            if (p != null) {
+                if (p.getPowerType() == 5) player.increaseBombCapacity();
+                else if (p.getPowerType() == 6) player.increaseBombRadius();
+
+                // PLAY SOUND
+                audio.play(AudioPort.Cue.POWER_UP);
+                powerUps.remove(p);
+                powerUpPool.free(p);
+            }
+        }
+
+        // Check if all enemies are dead => unlock exit
+        boolean justUnlocked = false;
+        if (!exitUnlocked && enemies.isEmpty()) {
+            exitUnlocked = true;
+            justUnlocked = true;
+            System.out.println("All enemies dead -> exit is unlocked!");
+        }
+
+        if (exitUnlocked && (enteredTile || justUnlocked)) {
+            if (player.getTileX() == tileMap.getExitX() 
+                && player.getTileY() == tileMap.getExitY()) {
+                // player stands on the exit => victory
+                victory();
+            }
+        }
+    }
+
+    /** Called by a bomb once its blast has ended. */
+    void bombFinished(Bomb bomb) {
+        bombs.remove(bomb);
+        occupancy.removeBomb(bomb);
+        player.bombExploded();
+        bombPool.free(bomb);
+    }
+
+    ExplosionTile obtainExplosionTile(int x, int y) {
+        ExplosionTile tile = explosionTilePool.obtain();
+        tile.set(x, y);
+        return tile;
+    }
+
+    void freeExplosionTile(ExplosionTile tile) {
+        explosionTilePool.free(tile);
+    }
+
+    private void victory() {
+        this.gameOver = true;
+        this.gameOverReason = "Victory";
+        audio.play(AudioPort.Cue.WIN);
+        System.out.println("Player reached the exit => Victory!");
+    }
+
+    // Provide a getter so GameScreen can render the exit if it exists
+    public Exit getExitObject() {
+        return exitRevealed ? exit : null;
+    }
+
+    /**
+     * The ExplosionResolver calls this to damage the tile (x,y). 
+     * If it's an indestructible wall => returns true => stop blast.
+     * If it's destructible => destroy & return false => keep going
+     * Also kills any enemy or the player if they occupy that tile.
+     */
+    public boolean handleExplosionTile(int x, int y) {
+        // Out of bounds => block
+        if (!tileMap.inBounds(x, y)) {
+            return true;
+        }
+
+        byte flags = tileMap.getFlagsUnchecked(tileMap.index(x, y));
+        if ((flags & TileMap.FLAG_BLOCKED) != 0 && (flags & TileMap.FLAG_DESTRUCTIBLE) == 0) {
+            // Indestructible => block
+            return true;
+        } else if ((flags & TileMap.FLAG_DESTRUCTIBLE) != 0) {
+            // This destroys the wall => now we can see if there's a hidden power-up
+            tileMap.destroyWall(x, y);
+
+            // See if there's a powerUp spawn at that tile
+            if ((flags & TileMap.FLAG_POWER_UP) != 0) {
+                PowerUp p = tileMap.getItems().revealPowerUp(x, y, powerUpPool);
+                if (p != null) {
+                    powerUps.add(p);
+                }
+            }
+
+            // REVEAL EXIT if this tile is the known exit tile
+            if ((flags & TileMap.FLAG_EXIT) != 0) {
+                // Show the Exit object
+                tileMap.getItems().revealExit(x, y);
+                exitRevealed = true;
+                // At this point, it’s revealed visually in the world, 
+                // but it’s still locked until all enemies are dead.
+            }
+
+            // we do not block further
+            return false;
+        }
+
+        // kill enemies in that tile
+        int index = tileMap.index(x, y);
+        Enemy e = occupancy.firstEnemyAt(index);
+        while (e != null) {
+            Enemy next = e.getNextOnTile();
+            occupancy.removeEnemy(e);
+            e.kill();
+            deadEnemies++;
+            e = next;
+        }
+
+        // kill player if in that tile
+        if (occupancy.isPlayerAt(index)) {
+            killPlayer("Bomb explosion");
+        }
+
+        return false;
+    }
+
+    public void killPlayer(String reason) {
+        this.gameOver = true;
+        this.gameOverReason = reason;
+        System.out.println("Player died: " + reason);
+
+        audio.play(AudioPort.Cue.DIE);
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+    public String getGameOverReason(){return gameOverReason;}
+
+    public Player getPlayer() { return player; }
+    public GameMapLogic setPlayer(Player player) {
+        this.player = player;
+        occupancy.movePlayer(player.getTileX(), player.getTileY());
+        return this;
+    }
+
+    public TileMap getTileMap() { return tileMap; }
+    public OccupancyGrid getOccupancy() { return occupancy; }
+    public TimerWheel getTimers() { return timers; }
+    public ExplosionResolver getExplosions() { return explosions; }
+    public FlowField getFlowField() { return flowField; }
+    public DangerMap getDanger() { return danger; }
+    public EnemyStepper getEnemyStepper() { return enemyStepper; }
+    public AudioPort getAudio() { return audio; }
+    public Random getRandom() { return random; }
+
+    public List<Enemy> getEnemies() { return enemies; }
+    public List<Bomb> getBombs() { return bombs; }
+    public List<PowerUp> getPowerUps(){ return powerUps; }
+
+    // Add convenience for spawning
+    public void addEnemy(Enemy e) {
+        enemies.add(e);
+        occupancy.addEnemy(e);
+    }
+    public void addPowerUp(PowerUp p){
+        powerUps.add(p);
+        tileMap.getItems().placePowerUp(p);
+    }
+
+    public boolean isExitUnlocked() {
+        return exitUnlocked;
+    }
+}
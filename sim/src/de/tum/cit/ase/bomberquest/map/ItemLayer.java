@@ -0,0 +1,208 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import de.tum.cit.ase.bomberquest.sim.Pool;
+
+/**
+ * Everything that lies on a tile without blocking it: hidden power-up spawns,
+ * revealed power-ups and the exit. Keyed by the packed tile coordinate
+ * ({@link #key(int, int)}) in an open-addressing hash table of primitives,
+ * so reveal and pickup are O(1) and lookups never allocate.
+ *
+ * Each entry is a set of state bits, a tile can hold a power-up and the exit at once.
+ */
+public class ItemLayer {
+
+    public static final int HIDDEN_POWER_UP = 1;
+    public static final int POWER_UP = 1 << 1;
+    public static final int HIDDEN_EXIT = 1 << 2;
+    public static final int EXIT = 1 << 3;
+
+    /** Set on every used slot so an entry stays findable while its bits change. */
+    private static final int OCCUPIED = 1 << 30;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] states;       // 0 => slot is empty, else OCCUPIED | state bits
+    private byte[] powerTypes;  // 5 => concurrency, 6 => blast radius
+    private PowerUp[] powerUps; // the revealed PowerUp object, if any
+    private int size;
+    private int mask;
+
+    public ItemLayer() {
+        this(64);
+    }
+
+    public ItemLayer(int expectedItems) {
+        int capacity = Integer.highestOneBit(Math.max(8, (int) (expectedItems / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /** Packs a tile coordinate into a single key. */
+    public static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int keyX(long key) { return (int) (key >> 32); }
+    public static int keyY(long key) { return (int) key; }
+
+    // --- map setup ---
+
+    public void addHiddenPowerUp(int x, int y, int type) {
+        int slot = slotFor(key(x, y));
+        states[slot] |= HIDDEN_POWER_UP;
+        powerTypes[slot] = (byte) type;
+    }
+
+    /** Places the exit. There is only one, any previous exit is removed. */
+    public void setHiddenExit(int x, int y, int oldX, int oldY) {
+        clear(oldX, oldY, HIDDEN_EXIT | EXIT);
+        states[slotFor(key(x, y))] |= HIDDEN_EXIT;
+    }
+
+    // --- gameplay ---
+
+    /**
+     * Turns a hidden power-up into a visible one.
+     * @param pool where the PowerUp object comes from
+     * @return the new PowerUp, or null if nothing was hidden at (x,y)
+     */
+    public PowerUp revealPowerUp(int x, int y, Pool<PowerUp> pool) {
+        int slot = find(key(x, y));
+        if (slot < 0 || (states[slot] & HIDDEN_POWER_UP) == 0) return null;
+        PowerUp p = pool.obtain().set(x, y, powerTypes[slot]);
+        states[slot] = (states[slot] & ~HIDDEN_POWER_UP) | POWER_UP;
+        powerUps[slot] = p;
+        return p;
+    }
+
+    /** Puts an already visible power-up on its tile, replacing any other visible one there. */
+    public void placePowerUp(PowerUp p) {
+        int slot = slotFor(key(p.getTileX(), p.getTileY()));
+        states[slot] |= POWER_UP;
+        powerTypes[slot] = (byte) p.getPowerType();
+        powerUps[slot] = p;
+    }
+
+    /**
+     * Removes the visible power-up at (x,y).
+     * @return the picked up PowerUp, or null if there is none
+     */
+    public PowerUp pickUpPowerUp(int x, int y) {
+        int slot = find(key(x, y));
+        if (slot < 0 || (states[slot] & POWER_UP) == 0) return null;
+        PowerUp p = powerUps[slot];
+        clear(x, y, POWER_UP);
+        return p;
+    }
+
+    /** @return true if the exit was hidden at (x,y) and is visible now */
+    public boolean revealExit(int x, int y) {
+        int slot = find(key(x, y));
+        if (slot < 0 || (states[slot] & HIDDEN_EXIT) == 0) return false;
+        states[slot] = (states[slot] & ~HIDDEN_EXIT) | EXIT;
+        return true;
+    }
+
+    /** The state bits at (x,y), 0 if nothing is there. */
+    public int get(int x, int y) {
+        int slot = find(key(x, y));
+        return slot < 0 ? 0 : states[slot] & ~OCCUPIED;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // --- hash table internals ---
+
+    /**
+     * A copy with its own tables. Revealed PowerUp objects are not copied,
+     * only layers that have none yet (fresh from loading) should be copied.
+     */
+    ItemLayer copy() {
+        ItemLayer copy = new ItemLayer(0);
+        copy.keys = keys.clone();
+        copy.states = states.clone();
+        copy.powerTypes = powerTypes.clone();
+        copy.powerUps = powerUps.clone();
+        copy.size = size;
+        copy.mask = mask;
+        return copy;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        states = new int[capacity];
+        powerTypes = new byte[capacity];
+        powerUps = new PowerUp[capacity];
+        mask = capacity - 1;
+    }
+
+    private int hash(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    private int find(long key) {
+        for (int slot = hash(key); states[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return slot;
+        }
+        return -1;
+    }
+
+    /** Finds the slot of the key, claiming an empty one if the key is new. */
+    private int slotFor(long key) {
+        int slot = find(key);
+        if (slot >= 0) return slot;
+        if (size + 1 > keys.length * LOAD_FACTOR) grow();
+        slot = hash(key);
+        while (states[slot] != 0) slot = (slot + 1) & mask;
+        keys[slot] = key;
+        states[slot] = OCCUPIED;
+        size++;
+        return slot;
+    }
+
+    private void clear(int x, int y, int bits) {
+        int slot = find(key(x, y));
+        if (slot < 0) return;
+        if ((bits & POWER_UP) != 0) powerUps[slot] = null;
+        states[slot] &= ~bits;
+        if (states[slot] == OCCUPIED) remove(slot);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldStates = states;
+        byte[] oldTypes = powerTypes;
+        PowerUp[] oldPowerUps = powerUps;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStates[i] == 0) continue;
+            int slot = hash(oldKeys[i]);
+            while (states[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            states[slot] = oldStates[i];
+            powerTypes[slot] = oldTypes[i];
+            powerUps[slot] = oldPowerUps[i];
+        }
+    }
+
+    /** Linear probing removal: shift later entries of the cluster back so lookups stay correct. */
+    private void remove(int slot) {
+        size--;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; states[next] != 0; next = (next + 1) & mask) {
+            int home = hash(keys[next]);
+            // move the entry if its home slot is not between the gap and its current slot
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                states[gap] = states[next];
+                powerTypes[gap] = powerTypes[next];
+                powerUps[gap] = powerUps[next];
+                gap = next;
+            }
+        }
+        states[gap] = 0;
+        powerUps[gap] = null;
+    }
+}
@@ -0,0 +1,153 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.tum.cit.ase.bomberquest.sim.FilePort;
+
+/**
+ * Parsed maps keyed by a SHA-256 hash of the file content, so restarting a level
+ * (or loading an identical file under another name) skips parsing.
+ *
+ * The file is still read on every {@link #get}, hashing it is much cheaper than parsing.
+ * The last {@link #MAX_TEMPLATES} templates used are kept in memory and, if a directory is given,
+ * also written there in the binary map format, so a cold start only maps that file instead of
+ * parsing the original. A disk hit gives the same template as parsing, see {@link BinaryMapFormat}.
+ * A changed file has a new hash and is simply parsed again.
+ */
+public class MapCache {
+
+    /** How many templates stay in memory, older ones are only on disk. */
+    public static final int MAX_TEMPLATES = 16;
+
+    private final FilePort files;
+    private final Path diskDir; // null => memory only
+    // in access order, so the least recently used template is dropped first
+    private final Map<String, MapTemplate> templates = new LinkedHashMap<>(MAX_TEMPLATES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MapTemplate> eldest) {
+            return size() > MAX_TEMPLATES;
+        }
+    };
+
+    private int memoryHits = 0, diskHits = 0, parses = 0;
+
+    /**
+     * @param diskDir where parsed maps are persisted, created on demand; null to keep them in memory only
+     */
+    public MapCache(FilePort files, Path diskDir) {
+        this.files = files;
+        this.diskDir = diskDir;
+    }
+
+    /**
+     * The template for the map file at the given path. Safe to call from a loader thread.
+     *
+     * @throws MapFormatException if the file is malformed
+     */
+    public synchronized MapTemplate get(String path) {
+        byte[] bytes;
+        try (InputStream in = files.read(path)) {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + path, e);
+        }
+        String hash = hash(bytes);
+
+        MapTemplate template = templates.get(hash);
+        if (template != null) {
+            memoryHits++;
+            return template;
+        }
+        template = loadFromDisk(hash);
+        if (template != null) {
+            diskHits++;
+        } else {
+            template = parse(bytes, path);
+            parses++;
+            saveToDisk(hash, template);
+        }
+        templates.put(hash, template);
+        return template;
+    }
+
+    /** Forgets the in-memory templates, the disk cache stays. */
+    public synchronized void clear() {
+        templates.clear();
+    }
+
+    public synchronized String getStats() {
+        return "map cache: " + memoryHits + " memory hits, " + diskHits + " disk hits, " + parses + " parsed";
+    }
+
+    /** Parses a text or binary map, told apart by the magic number. Also used by {@link MapValidator}. */
+    static MapTemplate parse(byte[] bytes, String path) {
+        if (BinaryMapFormat.isBinaryMap(bytes)) {
+            return new MapTemplate(BinaryMapFormat.readUnfinished(ByteBuffer.wrap(bytes), path));
+        }
+        try {
+            return new MapTemplate(MapParser.parseUnfinished(new ByteArrayInputStream(bytes), path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // cannot happen on a byte array
+        }
+    }
+
+    // The format version is part of the name, so a format change never reads stale files
+    private Path diskFile(String hash) {
+        return diskDir.resolve(hash + "-v" + BinaryMapFormat.VERSION + BinaryMapFormat.EXTENSION);
+    }
+
+    private MapTemplate loadFromDisk(String hash) {
+        if (diskDir == null) return null;
+        Path file = diskFile(hash);
+        if (!Files.isRegularFile(file)) return null;
+        try (FileChannel channel = FileChannel.open(file)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MapTemplate(BinaryMapFormat.readUnfinished(buffer, file.toString()));
+        } catch (IOException | MapFormatException e) {
+            // a broken cache entry is not an error, parse the original again
+            System.err.println("Ignoring map cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToDisk(String hash, MapTemplate template) {
+        if (diskDir == null) return;
+        try {
+            Files.createDirectories(diskDir);
+            // write next to it and move, so a crash never leaves a half-written entry
+            Path tmp = Files.createTempFile(diskDir, hash, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                BinaryMapFormat.write(template.getPrototype(), out);
+            }
+            Files.move(tmp, diskFile(hash), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Could not write map cache entry: " + e.getMessage());
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is always available", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * A map file could not be read because of a malformed line.
+ * The message names the file and the line, e.g. "maps/map-1.properties:12: expected '='".
+ * Binary maps have no lines, their errors report line 0.
+ */
+public class MapFormatException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String source;
+    private final int line;
+
+    public MapFormatException(String source, int line, String message) {
+        super(source + ":" + line + ": " + message);
+        this.source = source;
+        this.line = line;
+    }
+
+    public MapFormatException(String source, String message) {
+        super(source + ": " + message);
+        this.source = source;
+        this.line = 0;
+    }
+
+    /** The path of the map file. */
+    public String getSource() { return source; }
+
+    /** 1-based line number of the malformed line, 0 if the error is not about a line. */
+    public int getLine() { return line; }
+}
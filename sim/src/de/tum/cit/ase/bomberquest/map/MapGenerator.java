@@ -0,0 +1,138 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Builds arenas from a seed instead of a map file, fast enough to make a fresh one per match.
+ *
+ * The layout is the classic one: an indestructible border, indestructible pillars on every
+ * tile with even x and y, and destructible walls scattered over the rest with the given density.
+ * The tiles right next to the entrance stay free so the first bomb can be dodged.
+ * The exit is hidden under a destructible wall that a flood fill from the entrance reaches,
+ * under the same rules {@link MapValidator} checks, so every generated map can be won.
+ * The same seed and settings always give the same map.
+ */
+public class MapGenerator {
+
+    /** What to generate. The defaults are close to the hand-written maps. */
+    public static class Settings {
+        public int width = 21, height = 21;
+        public float wallDensity = 0.5f; // share of the free tiles that get a destructible wall
+        public int enemies = 8;
+        public int powerUps = 10;
+        public float blastRadiusShare = 0.5f; // of the power-ups, the rest are concurrency ones
+
+        public Settings() {}
+
+        public Settings(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // Enemies do not spawn this close to the entrance (in steps)
+    private static final int SAFE_DISTANCE = 3;
+
+    /**
+     * A new map for the given seed, ready to play (the exit is already placed).
+     *
+     * @throws IllegalArgumentException if the map is smaller than 5x5
+     */
+    public static TileMap generate(Settings settings, long seed) {
+        int width = settings.width, height = settings.height;
+        if (width < 5 || height < 5) {
+            throw new IllegalArgumentException("map must be at least 5x5, was " + width + "x" + height);
+        }
+        Random random = new Random(seed);
+
+        // The layout is built in a row-major plane of tile codes with plain index arithmetic
+        // and copied into the TileMap in one go, see TileMap#loadTilePlane
+        byte[] plane = new byte[width * height];
+
+        // 1) Entrance on a tile with odd x and y, those are never pillars
+        int entranceX = 1 + 2 * random.nextInt((width - 1) / 2);
+        int entranceY = 1 + 2 * random.nextInt((height - 1) / 2);
+
+        // 2) Border, pillars and destructible walls
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                if (x == 0 || y == 0 || x == width - 1 || y == height - 1 || ((x | y) & 1) == 0) {
+                    plane[row + x] = TileMap.WALL_INDESTRUCTIBLE;
+                } else if (Math.abs(x - entranceX) + Math.abs(y - entranceY) > 1
+                    && random.nextFloat() < settings.wallDensity) {
+                    plane[row + x] = TileMap.WALL_DESTRUCTIBLE;
+                }
+            }
+        }
+
+        // 3) Flood fill from the entrance, destructible walls are passable (they can be bombed).
+        // Sorts the reachable tiles into walls (exit and power-up spots, from the front of spots)
+        // and floor far enough from the entrance (enemy spots, from the back).
+        byte[] distance = new byte[width * height]; // steps + 1, capped; 0 => not reached yet
+        int[] queue = new int[width * height];
+        int[] spots = new int[width * height];
+        int[] steps = {width, -width, 1, -1};
+        int head = 0, tail = 0, wallCount = 0, floorCount = 0;
+
+        int start = entranceY * width + entranceX;
+        distance[start] = 1;
+        queue[tail++] = start;
+        while (head < tail) {
+            int i = queue[head++];
+            if (plane[i] == TileMap.WALL_DESTRUCTIBLE) {
+                spots[wallCount++] = i;
+            } else if (distance[i] > SAFE_DISTANCE + 1) {
+                spots[spots.length - ++floorCount] = i;
+            }
+            byte next = (byte) Math.min(distance[i] + 1, SAFE_DISTANCE + 2);
+            for (int step : steps) {
+                int n = i + step; // the border keeps us inside
+                if (distance[n] != 0 || plane[n] == TileMap.WALL_INDESTRUCTIBLE) continue;
+                distance[n] = next;
+                queue[tail++] = n;
+            }
+        }
+
+        // 4) Exit under a reachable destructible wall. With no walls at all (density 0),
+        // the farthest reachable tile gets one.
+        if (wallCount == 0) {
+            int farthest = queue[tail - 1];
+            plane[farthest] = TileMap.WALL_DESTRUCTIBLE;
+            if (floorCount > 0 && spots[spots.length - floorCount] == farthest) floorCount--;
+            spots[wallCount++] = farthest;
+        }
+        TileMap tileMap = new TileMap(width, height);
+        tileMap.loadTilePlane(ByteBuffer.wrap(plane));
+        tileMap.setEntrance(entranceX, entranceY);
+        int exit = takeRandom(spots, 0, wallCount, random);
+        int wallsTaken = 1;
+        tileMap.setSpecifiedExit(exit % width, exit / width);
+
+        // 5) Power-ups under the other walls, enemies on the far floor
+        int powerUps = Math.min(settings.powerUps, wallCount - wallsTaken);
+        for (int p = 0; p < powerUps; p++, wallsTaken++) {
+            int i = takeRandom(spots, wallsTaken, wallCount - wallsTaken, random);
+            int type = random.nextFloat() < settings.blastRadiusShare ? 6 : 5;
+            tileMap.addPowerUpSpawn(i % width, i / width, type);
+        }
+        int enemies = Math.min(settings.enemies, floorCount);
+        for (int e = 0; e < enemies; e++) {
+            int i = takeRandom(spots, spots.length - floorCount, floorCount, random);
+            floorCount--;
+            tileMap.addEnemySpawn(i % width, i / width);
+        }
+        return tileMap;
+    }
+
+    // Picks one of the count values starting at from and swaps it to the front of them,
+    // so the caller drops it by starting one further next time
+    private static int takeRandom(int[] values, int from, int count, Random random) {
+        int pick = from + random.nextInt(count);
+        int value = values[pick];
+        values[pick] = values[from];
+        values[from] = value;
+        return value;
+    }
+}
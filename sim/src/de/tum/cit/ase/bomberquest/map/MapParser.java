@@ -0,0 +1,160 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Reads map files ("x,y=type" per line, '#' comments) in one pass over the raw bytes.
+ *
+ * There are no Strings per line and no splitting: digits are accumulated straight from a
+ * fixed read buffer and every entry is kept as three ints. The map size is not known up front,
+ * it is the largest coordinate seen plus one, so the TileMap is created after the last line
+ * and the entries are applied to it in file order.
+ */
+public class MapParser {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private final InputStream in;
+    private final String source;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos = 0, limit = 0;
+    private boolean eof = false;
+    private int pushedBack = NONE;
+    private int line = 1;
+
+    private int[] entries = new int[3 * 1024]; // x, y, type
+    private int entryCount = 0;
+    private int maxX = -1, maxY = -1;
+
+    private MapParser(InputStream in, String source) {
+        this.in = in;
+        this.source = source;
+    }
+
+    /**
+     * Parses the stream into a new TileMap sized to fit all entries.
+     *
+     * @param source name of the file, only used in error messages
+     * @param random picks the exit if the file does not place one
+     * @throws MapFormatException if a line is malformed or the file has no entries
+     */
+    public static TileMap parse(InputStream in, String source, Random random) throws IOException {
+        TileMap tileMap = parseUnfinished(in, source);
+        tileMap.finishLoading(random);
+        return tileMap;
+    }
+
+    /** Parses the map without picking a random exit yet, see {@link MapTemplate}. */
+    static TileMap parseUnfinished(InputStream in, String source) throws IOException {
+        MapParser parser = new MapParser(in, source);
+        parser.readEntries();
+        if (parser.entryCount == 0) {
+            throw new MapFormatException(source, parser.line, "map has no entries");
+        }
+
+        TileMap tileMap = new TileMap(parser.maxX + 1, parser.maxY + 1);
+        int[] e = parser.entries;
+        for (int i = 0; i < parser.entryCount; i++) {
+            tileMap.applyEntry(e[3 * i], e[3 * i + 1], e[3 * i + 2]);
+        }
+        return tileMap;
+    }
+
+    private void readEntries() throws IOException {
+        int c;
+        while ((c = skipBlanks(read())) != EOF) {
+            if (c == '\n') {
+                line++;
+                continue;
+            }
+            if (c == '#' || c == '!') {
+                // comment, skip the rest of the line
+                while (c != '\n' && c != EOF) c = read();
+                if (c == '\n') line++;
+                continue;
+            }
+
+            // x , y = type
+            int x = readNumber(c, "x coordinate");
+            expect(skipBlanks(read()), ',');
+            int y = readNumber(skipBlanks(read()), "y coordinate");
+            expect(skipBlanks(read()), '=');
+            int type = readNumber(skipBlanks(read()), "tile type");
+            c = skipBlanks(read());
+            if (c != '\n' && c != EOF) throw error("unexpected " + describe(c) + " after the tile type");
+
+            add(x, y, type);
+            if (c == EOF) break;
+            line++;
+        }
+    }
+
+    // Reads an unsigned decimal number whose first byte is c, leaves the byte after it unread
+    private int readNumber(int c, String what) throws IOException {
+        if (c < '0' || c > '9') throw error("expected " + what + ", found " + describe(c));
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE) throw error(what + " is too large");
+            c = read();
+        }
+        pushedBack = c; // give the non-digit back
+        return (int) value;
+    }
+
+    private void expect(int c, char wanted) {
+        if (c != wanted) throw error("expected '" + wanted + "', found " + describe(c));
+    }
+
+    private void add(int x, int y, int type) {
+        if (3 * entryCount == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[3 * entryCount] = x;
+        entries[3 * entryCount + 1] = y;
+        entries[3 * entryCount + 2] = type;
+        entryCount++;
+        if (x > maxX) maxX = x;
+        if (y > maxY) maxY = y;
+    }
+
+    private int skipBlanks(int c) throws IOException {
+        while (c == ' ' || c == '\t' || c == '\r') c = read();
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        if (pos == limit) {
+            if (eof) return EOF;
+            int n = in.read(buffer, 0, buffer.length);
+            if (n <= 0) {
+                eof = true;
+                return EOF;
+            }
+            pos = 0;
+            limit = n;
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    private MapFormatException error(String message) {
+        return new MapFormatException(source, line, message);
+    }
+
+    private static String describe(int c) {
+        if (c == EOF) return "end of file";
+        if (c == '\n') return "end of line";
+        if (c < 32 || c > 126) return String.format("byte 0x%02x", c);
+        return "'" + (char) c + "'";
+    }
+}
@@ -0,0 +1,32 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.Random;
+
+/**
+ * A parsed map that is never played on itself. Every run gets its own
+ * {@link #instantiate copy}, which costs a few array clones instead of parsing the file again.
+ * If the map has no fixed exit, each copy picks its exit with the run's random source,
+ * exactly like {@link TileMap#load} does.
+ */
+public final class MapTemplate {
+
+    private final TileMap prototype;
+
+    /** Wraps a freshly loaded map whose random exit has not been picked yet. */
+    MapTemplate(TileMap prototype) {
+        this.prototype = prototype;
+    }
+
+    /** A new, playable map in its initial state. */
+    public TileMap instantiate(Random random) {
+        TileMap tileMap = prototype.copy();
+        tileMap.finishLoading(random);
+        return tileMap;
+    }
+
+    public int getWidth() { return prototype.getWidth(); }
+    public int getHeight() { return prototype.getHeight(); }
+
+    // For writing the template to the disk cache, must not be modified
+    TileMap getPrototype() { return prototype; }
+}
@@ -0,0 +1,248 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks a map file for problems that otherwise only show up in play: an entrance inside
+ * a wall, an exit that cannot be reached, enemies spawned on blocked tiles, power-ups that
+ * are not under a destructible wall, unknown type codes.
+ *
+ * Reachability is a flood fill from the entrance. Destructible walls count as passable,
+ * since the player can bomb through them, indestructible walls and the map edge do not.
+ * Every call works on its own data, so many maps can be validated in parallel.
+ */
+public class MapValidator {
+
+    /** The outcome for one map file. Errors make the map unplayable, warnings are suspicious. */
+    public static class Report {
+        public final String source;
+        public final List<String> errors = new ArrayList<>();
+        public final List<String> warnings = new ArrayList<>();
+
+        public int width, height;
+        public int floorTiles, indestructibleWalls, destructibleWalls;
+        public int enemies, powerUps;
+        public int reachableTiles;       // including destructible walls
+        public int reachableWithoutBombs; // floor only
+        public int exitDistance = -1;     // steps from the entrance, -1 if random or unreachable
+
+        Report(String source) {
+            this.source = source;
+        }
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        /** Appends this report as one JSON object. */
+        public void appendJson(StringBuilder out) {
+            out.append("{\"source\":");
+            appendString(out, source);
+            out.append(",\"valid\":").append(isValid());
+            out.append(",\"errors\":");
+            appendStrings(out, errors);
+            out.append(",\"warnings\":");
+            appendStrings(out, warnings);
+            out.append(",\"width\":").append(width)
+                .append(",\"height\":").append(height)
+                .append(",\"floorTiles\":").append(floorTiles)
+                .append(",\"indestructibleWalls\":").append(indestructibleWalls)
+                .append(",\"destructibleWalls\":").append(destructibleWalls)
+                .append(",\"enemies\":").append(enemies)
+                .append(",\"powerUps\":").append(powerUps)
+                .append(",\"reachableTiles\":").append(reachableTiles)
+                .append(",\"reachableWithoutBombs\":").append(reachableWithoutBombs)
+                .append(",\"exitDistance\":").append(exitDistance)
+                .append('}');
+        }
+    }
+
+    /**
+     * Parses and checks the content of one map file (text or binary).
+     * Never throws for a bad map, parse errors end up in the report.
+     *
+     * @param source name of the file, used in the report
+     */
+    public static Report validate(byte[] bytes, String source) {
+        TileMap tileMap;
+        try {
+            tileMap = MapCache.parse(bytes, source).getPrototype();
+        } catch (MapFormatException e) {
+            return failed(source, e.getMessage());
+        }
+        return validate(tileMap, source);
+    }
+
+    /** A report for a map that could not be checked at all, e.g. because it could not be read. */
+    public static Report failed(String source, String error) {
+        Report report = new Report(source);
+        report.errors.add(error);
+        return report;
+    }
+
+    /** Checks a map as loaded, before the random exit was picked. */
+    public static Report validate(TileMap tileMap, String source) {
+        Report report = new Report(source);
+        report.width = tileMap.getWidth();
+        report.height = tileMap.getHeight();
+        countTiles(tileMap, report);
+
+        if (tileMap.getIgnoredEntries() > 0) {
+            report.warnings.add(tileMap.getIgnoredEntries() + " entries with an unknown type code were ignored");
+        }
+
+        // 1) Entrance
+        int ex = tileMap.getEntranceX(), ey = tileMap.getEntranceY();
+        if (!tileMap.isEntranceSpecified()) {
+            report.errors.add("no entrance");
+            return report;
+        }
+        if (!tileMap.inBounds(ex, ey)) {
+            report.errors.add("entrance " + ex + "," + ey + " is outside the map");
+            return report;
+        }
+        if (tileMap.getTile(ex, ey) != TileMap.FLOOR) {
+            report.errors.add("entrance " + ex + "," + ey + " is inside a wall");
+        }
+
+        // 2) Flood fills from the entrance
+        ChunkedTable.Ints distance = floodFill(tileMap, ex, ey, true);
+        ChunkedTable.Ints walkable = floodFill(tileMap, ex, ey, false);
+        for (int y = 0; y < report.height; y++) {
+            for (int x = 0; x < report.width; x++) {
+                int i = tileMap.index(x, y);
+                if (distance.get(i) >= 0) report.reachableTiles++;
+                if (walkable.get(i) >= 0) report.reachableWithoutBombs++;
+            }
+        }
+        if (report.reachableWithoutBombs == 1) {
+            report.warnings.add("the player cannot move without bombing a wall first");
+        }
+
+        // 3) Exit
+        if (tileMap.isExitSpecified()) {
+            int x = tileMap.getExitX(), y = tileMap.getExitY();
+            if (tileMap.getTile(x, y) != TileMap.WALL_DESTRUCTIBLE) {
+                report.errors.add("exit " + x + "," + y + " is not under a destructible wall");
+            } else if (distance.get(tileMap.index(x, y)) < 0) {
+                report.errors.add("exit " + x + "," + y + " is unreachable from the entrance");
+            } else {
+                report.exitDistance = distance.get(tileMap.index(x, y));
+            }
+        } else if (report.destructibleWalls == 0) {
+            report.errors.add("no exit and no destructible wall to hide a random one under");
+        } else {
+            int unreachable = 0;
+            for (int y = 0; y < report.height; y++) {
+                for (int x = 0; x < report.width; x++) {
+                    int i = tileMap.index(x, y);
+                    if (tileMap.getTileUnchecked(i) == TileMap.WALL_DESTRUCTIBLE && distance.get(i) < 0) unreachable++;
+                }
+            }
+            if (unreachable == report.destructibleWalls) {
+                report.errors.add("no destructible wall is reachable, the random exit never is");
+            } else if (unreachable > 0) {
+                report.warnings.add(unreachable + " destructible walls are unreachable, the random exit may land on one");
+            }
+        }
+
+        // 4) Enemies
+        for (TileMap.EnemySpawn spawn : tileMap.getEnemySpawns()) {
+            String at = "enemy " + spawn.x + "," + spawn.y;
+            if (!tileMap.inBounds(spawn.x, spawn.y)) {
+                report.errors.add(at + " is outside the map");
+            } else if (tileMap.getTile(spawn.x, spawn.y) != TileMap.FLOOR) {
+                report.errors.add(at + " is spawned on a blocked tile");
+            } else if (spawn.x == ex && spawn.y == ey) {
+                report.warnings.add(at + " is spawned on the entrance");
+            } else if (distance.get(tileMap.index(spawn.x, spawn.y)) < 0) {
+                report.warnings.add(at + " is walled in and can never reach the player");
+            }
+        }
+
+        // 5) Power-ups, each code 5/6 entry must end up under a destructible wall
+        for (TileMap.PowerUpSpawn spawn : tileMap.getPowerUpSpawns()) {
+            String at = "power-up " + spawn.type + " at " + spawn.x + "," + spawn.y;
+            if (!tileMap.inBounds(spawn.x, spawn.y)) {
+                report.errors.add(at + " is outside the map");
+            } else if (tileMap.getTile(spawn.x, spawn.y) != TileMap.WALL_DESTRUCTIBLE) {
+                report.errors.add(at + " is not under a destructible wall");
+            } else if (distance.get(tileMap.index(spawn.x, spawn.y)) < 0) {
+                report.warnings.add(at + " is unreachable");
+            }
+        }
+        return report;
+    }
+
+    private static void countTiles(TileMap tileMap, Report report) {
+        for (int y = 0; y < report.height; y++) {
+            for (int x = 0; x < report.width; x++) {
+                switch (tileMap.getTileUnchecked(tileMap.index(x, y))) {
+                    case TileMap.FLOOR -> report.floorTiles++;
+                    case TileMap.WALL_INDESTRUCTIBLE -> report.indestructibleWalls++;
+                    default -> report.destructibleWalls++;
+                }
+            }
+        }
+        report.enemies = tileMap.getEnemySpawns().size();
+        report.powerUps = tileMap.getPowerUpSpawns().size();
+    }
+
+    // BFS distances by tile index, -1 where unreachable. Chunked, so unreached parts of a big map cost nothing.
+    // With throughWalls the destructible walls are entered (but the entrance tile always is).
+    private static ChunkedTable.Ints floodFill(TileMap tileMap, int startX, int startY, boolean throughWalls) {
+        ChunkedTable.Ints distance = new ChunkedTable.Ints(tileMap, -1);
+        int[] queue = new int[256];
+        int head = 0, tail = 0;
+
+        int start = tileMap.index(startX, startY);
+        distance.set(start, 0);
+        queue[tail++] = start;
+        while (head < tail) {
+            int i = queue[head++];
+            int d = distance.get(i);
+            int x = tileMap.indexX(i), y = tileMap.indexY(i);
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = x + TileMap.stepX(dir), ny = y + TileMap.stepY(dir);
+                if (!tileMap.inBounds(nx, ny)) continue;
+                int n = tileMap.index(nx, ny);
+                if (distance.get(n) >= 0) continue;
+                int tile = tileMap.getTileUnchecked(n);
+                if (tile == TileMap.WALL_INDESTRUCTIBLE) continue;
+                if (tile == TileMap.WALL_DESTRUCTIBLE && !throughWalls) continue;
+                distance.set(n, d + 1);
+                if (tail == queue.length) queue = Arrays.copyOf(queue, tail * 2);
+                queue[tail++] = n;
+            }
+        }
+        return distance;
+    }
+
+    private static void appendStrings(StringBuilder out, List<String> strings) {
+        out.append('[');
+        for (int i = 0; i < strings.size(); i++) {
+            if (i > 0) out.append(',');
+            appendString(out, strings.get(i));
+        }
+        out.append(']');
+    }
+
+    private static void appendString(StringBuilder out, String s) {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                default -> {
+                    if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+}
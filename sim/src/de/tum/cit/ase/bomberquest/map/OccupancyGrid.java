@@ -0,0 +1,113 @@
+package de.tum.cit.ase.bomberquest.map;
+
+/**
+ * Answers "who is on tile (x,y)" in O(1) for enemies, bombs and the player.
+ * Several enemies or bombs can share a tile, they are chained through links stored
+ * in the entities themselves, so moving something never allocates.
+ * Every tile is addressed by its {@link TileMap#index(int, int)}, the heads live in chunked
+ * tables, so only chunks something ever stood on take memory.
+ */
+public class OccupancyGrid {
+
+    private final TileMap tileMap;
+    private final ChunkedTable.Refs<Enemy> enemyHeads;
+    private final ChunkedTable.Refs<Bomb> bombHeads;
+    private int playerIndex = -1;
+
+    public OccupancyGrid(TileMap tileMap) {
+        this.tileMap = tileMap;
+        this.enemyHeads = new ChunkedTable.Refs<>(tileMap);
+        this.bombHeads = new ChunkedTable.Refs<>(tileMap);
+    }
+
+    private int indexOrNone(int x, int y) {
+        return tileMap.inBounds(x, y) ? tileMap.index(x, y) : -1;
+    }
+
+    // --- enemies ---
+
+    /** Starts tracking the enemy on its current tile. Enemies outside the map are not tracked. */
+    public void addEnemy(Enemy e) {
+        int index = indexOrNone(e.getTileX(), e.getTileY());
+        if (index < 0) return;
+        e.occIndex = index;
+        e.occPrev = null;
+        e.occNext = enemyHeads.get(index);
+        if (e.occNext != null) e.occNext.occPrev = e;
+        enemyHeads.set(index, e);
+    }
+
+    public void removeEnemy(Enemy e) {
+        if (e.occIndex < 0) return;
+        if (e.occPrev != null) e.occPrev.occNext = e.occNext;
+        else enemyHeads.set(e.occIndex, e.occNext);
+        if (e.occNext != null) e.occNext.occPrev = e.occPrev;
+        e.occPrev = null;
+        e.occNext = null;
+        e.occIndex = -1;
+    }
+
+    /** Call after the enemy changed its tile. */
+    public void moveEnemy(Enemy e) {
+        removeEnemy(e);
+        addEnemy(e);
+    }
+
+    /**
+     * First enemy on the tile, walk the rest with {@link Enemy#getNextOnTile()}.
+     * Returns null if the tile is empty.
+     */
+    public Enemy firstEnemyAt(int index) {
+        return enemyHeads.get(index);
+    }
+
+    public boolean hasEnemyAt(int index) {
+        return enemyHeads.get(index) != null;
+    }
+
+    // --- bombs ---
+
+    public void addBomb(Bomb b) {
+        int index = indexOrNone(b.getX(), b.getY());
+        if (index < 0) return;
+        b.occIndex = index;
+        b.occPrev = null;
+        b.occNext = bombHeads.get(index);
+        if (b.occNext != null) b.occNext.occPrev = b;
+        bombHeads.set(index, b);
+    }
+
+    public void removeBomb(Bomb b) {
+        if (b.occIndex < 0) return;
+        if (b.occPrev != null) b.occPrev.occNext = b.occNext;
+        else bombHeads.set(b.occIndex, b.occNext);
+        if (b.occNext != null) b.occNext.occPrev = b.occPrev;
+        b.occPrev = null;
+        b.occNext = null;
+        b.occIndex = -1;
+    }
+
+    /** First bomb on the tile, or null. */
+    public Bomb firstBombAt(int index) {
+        return bombHeads.get(index);
+    }
+
+    public boolean hasBombAt(int index) {
+        return bombHeads.get(index) != null;
+    }
+
+    // --- player ---
+
+    public void movePlayer(int x, int y) {
+        playerIndex = indexOrNone(x, y);
+    }
+
+    /** Tile index of the player, -1 if the player is outside the map. */
+    public int getPlayerIndex() {
+        return playerIndex;
+    }
+
+    public boolean isPlayerAt(int index) {
+        return playerIndex == index;
+    }
+}
@@ -1,13 +1,7 @@
 package de.tum.cit.ase.bomberquest.map;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-
-import de.tum.cit.ase.bomberquest.audio.SoundEffects;
-import de.tum.cit.ase.bomberquest.texture.Animations;
+import de.tum.cit.ase.bomberquest.sim.AudioPort;
+import de.tum.cit.ase.bomberquest.sim.InputPort;
 
 /**
  * The Player moves tile-by-tile and can place bombs.
@@ -19,6 +13,7 @@ public class Player {
     private boolean isMoving = false;
     private final TileMap tileMap;
     private final GameMapLogic logic; // We'll store or reference an external logic that holds bombs etc.
+    private final InputPort input;
     // We'll have four separate animations
     private float animationTime = 0f;
 
@@ -30,11 +25,12 @@ public enum Direction {
         UP, DOWN, LEFT, RIGHT
     }
 
-    public Player(TileMap tileMap, int startX, int startY, GameMapLogic logic) {
+    public Player(TileMap tileMap, int startX, int startY, GameMapLogic logic, InputPort input) {
         this.tileMap = tileMap;
         this.tileX = startX;
         this.tileY = startY;
         this.logic = logic;
+        this.input = input;
 
         this.animationTime = 0f;
     }
@@ -44,19 +40,19 @@ public void update(float delta) {
         int dx=0, dy=0;
 
         // Check input
-        if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
+        if (input.isJustPressed(InputPort.Action.UP)) {
             tryMove(0, 1);
             currentDirection = Direction.UP;
         }
-        else if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
+        else if (input.isJustPressed(InputPort.Action.DOWN)) {
             tryMove(0, -1);
             currentDirection = Direction.DOWN;
         }
-        else if (Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
+        else if (input.isJustPressed(InputPort.Action.LEFT)) {
             tryMove(-1, 0);
             currentDirection = Direction.LEFT;
         }
-        else if (Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
+        else if (input.isJustPressed(InputPort.Action.RIGHT)) {
             tryMove(1, 0);
             currentDirection = Direction.RIGHT;
         }
@@ -73,7 +69,7 @@ else if (Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
         }
 
         // Place bomb if SPACE pressed
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (input.isJustPressed(InputPort.Action.PLACE_BOMB)) {
             attemptPlaceBomb();
         }
     }
@@ -84,17 +80,18 @@ private void tryMove(int dx, int dy) {
         if (!tileMap.isBlocked(nx, ny)) {
             tileX = nx;
             tileY = ny;
+            logic.getOccupancy().movePlayer(tileX, tileY);
         }
     }
 
     private void attemptPlaceBomb() {
         if (bombsActive < bombCapacity) {
             // place a bomb
-            logic.addBomb(new Bomb(tileX, tileY, bombRadius, logic));
+            logic.placeBomb(tileX, tileY, bombRadius);
             bombsActive++;
 
             // PLAY SOUND
-            SoundEffects.BOMB_PLACE.play();
+            logic.getAudio().play(AudioPort.Cue.BOMB_PLACE);
         }
     }
 
@@ -110,35 +107,10 @@ public void increaseBombCapacity() {
         bombCapacity = Math.min(bombCapacity+1, 8);
     }
 
-    public void render(SpriteBatch batch, float tileSizePx) {
-        float px = tileX * tileSizePx;
-        float py = tileY * tileSizePx;
-
-        // Decide which direction's animation we want
-        TextureRegion currentFrame;
-        switch (currentDirection) {
-            case UP:
-                currentFrame = Animations.PLAYER_UP.getKeyFrame(animationTime, true);
-                break;
-            case DOWN:
-                currentFrame = Animations.PLAYER_DOWN.getKeyFrame(animationTime, true);
-                break;
-            case LEFT:
-                currentFrame = Animations.PLAYER_LEFT.getKeyFrame(animationTime, true);
-                break;
-            case RIGHT:
-            default:
-                currentFrame = Animations.PLAYER_RIGHT.getKeyFrame(animationTime, true);
-                break;
-        }
-
-        batch.draw(currentFrame, px, py);
-    }
-
-
-
     public int getTileX() { return tileX; }
     public int getTileY() { return tileY; }
     public int getBombRadius() { return bombRadius; }
     public int getBombCapacity() { return bombCapacity; }
+    public Direction getDirection() { return currentDirection; }
+    public float getAnimationTime() { return animationTime; }
 }
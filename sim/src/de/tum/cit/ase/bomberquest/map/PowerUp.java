@@ -0,0 +1,31 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import de.tum.cit.ase.bomberquest.sim.Pool;
+
+public class PowerUp implements Pool.Poolable {
+
+    private int tileX, tileY;
+    private int powerType; // 5 => concurrency, 6 => blast radius
+
+    public PowerUp() { }
+
+    public PowerUp(int x, int y, int type) {
+        set(x, y, type);
+    }
+
+    public PowerUp set(int x, int y, int type) {
+        this.tileX = x;
+        this.tileY = y;
+        this.powerType = type;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        set(0, 0, 0);
+    }
+
+    public int getTileX(){return tileX;}
+    public int getTileY(){return tileY;}
+    public int getPowerType(){return powerType;}
+}
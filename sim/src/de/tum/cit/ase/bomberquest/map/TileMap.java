@@ -0,0 +1,617 @@
+package de.tum.cit.ase.bomberquest.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.sim.FilePort;
+
+/**
+ * Tile-based map storage. Each (x,y) holds a tile code:
+ * 0 => Floor (free)
+ * 1 => Indestructible wall
+ * 2 => Destructible wall
+ *
+ * Internally every tile is one byte of flag bits. The map is cut into chunks of 32x32 tiles,
+ * each its own array, and a chunk that was never written to is all floor and not allocated at all,
+ * so memory grows with the walls on the map rather than its size.
+ * Tiles are addressed by a chunk-major {@link #index(int, int)}: the chunk number in the high bits,
+ * the position inside the chunk in the low 10 bits. Per-tile side tables (occupancy, flow field, ...)
+ * use the same index and the same chunks, see {@link ChunkedTable}, so they also only cost memory
+ * where something happens.
+ * The *Unchecked accessors skip the bounds check and are meant for hot loops
+ * that already know they are inside the map.
+ * 
+ *  We also keep track of:
+ *    - the player's spawn (entranceX, entranceY)
+ *    - enemies positions
+ *    - power-ups positions
+ *    - exit position
+ */
+public class TileMap {
+
+    public static final int FLOOR = 0;
+    public static final int WALL_INDESTRUCTIBLE = 1;
+    public static final int WALL_DESTRUCTIBLE = 2;
+
+    // Flag bits of a tile in the packed grid
+    /** Walls of both kinds. */
+    public static final byte FLAG_BLOCKED = 1;
+    /** Set together with FLAG_BLOCKED on destructible walls. */
+    public static final byte FLAG_DESTRUCTIBLE = 1 << 1;
+    /** A power-up spawn is hidden under this wall. */
+    public static final byte FLAG_POWER_UP = 1 << 2;
+    /** This is the exit tile. */
+    public static final byte FLAG_EXIT = 1 << 3;
+    /** A blast is currently burning on this tile. */
+    public static final byte FLAG_ON_FIRE = 1 << 4;
+
+    private static final byte WALL_MASK = FLAG_BLOCKED | FLAG_DESTRUCTIBLE;
+
+    // Directions for the ray tables
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int RIGHT = 2;
+    public static final int LEFT = 3;
+    private static final int[] STEP_X = {0, 0, 1, -1};
+    private static final int[] STEP_Y = {1, -1, 0, 0};
+    /** Ray lengths saturate here, a stored 255 means "255 or more". */
+    private static final int MAX_RAY = 255;
+
+    // Chunk geometry
+    public static final int CHUNK_SHIFT = 5;
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    static final int CHUNK_TILES = CHUNK_SIZE * CHUNK_SIZE;
+    static final int LOCAL_BITS = 2 * CHUNK_SHIFT;
+
+    private final int width;
+    private final int height;
+    private final int chunksX, chunksY;
+    private final byte[][] chunks; // null => all floor, no flags
+    private int loadedChunks = 0;
+
+    // For every tile of a loaded chunk and direction: how many free tiles follow inside the chunk
+    // before a wall, the chunk edge or the map edge. chunkRays[chunk][local * 4 + dir].
+    // Null until first needed, dropped by setTile, patched locally by destroyWall.
+    // getRayLength stitches the runs of neighbouring chunks together.
+    private final byte[][] chunkRays;
+
+    // Bumped whenever a tile turns from wall to floor or back, so caches can tell they are stale
+    private int wallVersion = 0;
+    // The same per chunk, so e.g. the renderer only rebuilds the chunks that changed
+    private final int[] chunkVersions;
+
+    // These are read from map file for convenience:
+    private int entranceX, entranceY;
+    private int exitX, exitY;
+    private boolean exitSpecified = false; // else a random destructible wall becomes the exit
+    private boolean entranceSpecified = false;
+    private int ignoredEntries = 0; // entries with an unknown type code, see applyEntry
+
+    // We’ll store a separate list for enemies, powerUps, etc.
+    private final List<EnemySpawn> enemySpawns = new ArrayList<>();
+    private final List<PowerUpSpawn> powerUpSpawns = new ArrayList<>();
+    // Hidden power-ups and the exit, looked up by tile during play
+    private final ItemLayer items;
+
+    /**
+     * Creates a tile map with given dimensions (like 40×24).
+     */
+    public TileMap(int width, int height) {
+        this(width, height, new ItemLayer());
+    }
+
+    private TileMap(int width, int height, ItemLayer items) {
+        this.items = items;
+        this.width = width;
+        this.height = height;
+        this.chunksX = (width + CHUNK_MASK) >> CHUNK_SHIFT;
+        this.chunksY = (height + CHUNK_MASK) >> CHUNK_SHIFT;
+        // no chunk allocated => everything is floor
+        this.chunks = new byte[chunksX * chunksY][];
+        this.chunkRays = new byte[chunksX * chunksY][];
+        this.chunkVersions = new int[chunksX * chunksY];
+    }
+
+    /**
+     * Return true if tile is blocked (either indestructible or destructible).
+     */
+    public boolean isBlocked(int x, int y) {
+        if (!inBounds(x, y)) return true;
+        return isBlockedUnchecked(index(x, y));
+    }
+
+    public void setTile(int x, int y, int type) {
+        if (!inBounds(x, y)) return;
+        setTileUnchecked(index(x, y), type);
+    }
+
+    public int getTile(int x, int y) {
+        if (!inBounds(x, y)) return WALL_INDESTRUCTIBLE;
+        return getTileUnchecked(index(x, y));
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /** True if (x,y) is inside the map and not on its outermost ring. */
+    public boolean isInterior(int x, int y) {
+        return x > 0 && x < width - 1 && y > 0 && y < height - 1;
+    }
+
+    /** Chunk-major index of (x,y), no bounds check. */
+    public int index(int x, int y) {
+        int chunk = (y >> CHUNK_SHIFT) * chunksX + (x >> CHUNK_SHIFT);
+        return (chunk << LOCAL_BITS) | ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    }
+
+    /** The x of a tile index. */
+    public int indexX(int index) {
+        return ((index >>> LOCAL_BITS) % chunksX) << CHUNK_SHIFT | (index & CHUNK_MASK);
+    }
+
+    /** The y of a tile index. */
+    public int indexY(int index) {
+        return ((index >>> LOCAL_BITS) / chunksX) << CHUNK_SHIFT | ((index >>> CHUNK_SHIFT) & CHUNK_MASK);
+    }
+
+    /**
+     * Upper bound (exclusive) of all tile indices. An array of this size has a slot for every
+     * tile of every chunk, use a {@link ChunkedTable} for per-tile state during play instead.
+     */
+    public int getIndexCount() {
+        return chunksX * chunksY * CHUNK_TILES;
+    }
+
+    public int getChunksX() { return chunksX; }
+    public int getChunksY() { return chunksY; }
+    public int getChunkCount() { return chunksX * chunksY; }
+
+    /** Changes every time a wall inside chunk (cx,cy) is placed or destroyed. */
+    public int getChunkVersion(int cx, int cy) {
+        return chunkVersions[cy * chunksX + cx];
+    }
+
+    /** How many chunks hold anything but plain floor, i.e. are allocated. */
+    public int getLoadedChunkCount() {
+        return loadedChunks;
+    }
+
+    // --- unchecked fast path, the caller guarantees index is from index(x,y) of a tile inside the map ---
+
+    public byte getFlagsUnchecked(int index) {
+        byte[] chunk = chunks[index >>> LOCAL_BITS];
+        return chunk == null ? 0 : chunk[index & (CHUNK_TILES - 1)];
+    }
+
+    public boolean isBlockedUnchecked(int index) {
+        return (getFlagsUnchecked(index) & FLAG_BLOCKED) != 0;
+    }
+
+    public int getTileUnchecked(int index) {
+        switch (getFlagsUnchecked(index) & WALL_MASK) {
+            case FLAG_BLOCKED: return WALL_INDESTRUCTIBLE;
+            case WALL_MASK: return WALL_DESTRUCTIBLE;
+            default: return FLOOR;
+        }
+    }
+
+    public void setTileUnchecked(int index, int type) {
+        byte wall;
+        switch (type) {
+            case WALL_INDESTRUCTIBLE: wall = FLAG_BLOCKED; break;
+            case WALL_DESTRUCTIBLE: wall = WALL_MASK; break;
+            default: wall = 0; break;
+        }
+        int c = index >>> LOCAL_BITS;
+        if (wall == 0 && chunks[c] == null) return; // already floor
+        byte[] chunk = loadChunk(c);
+        int local = index & (CHUNK_TILES - 1);
+        chunk[local] = (byte) ((chunk[local] & ~WALL_MASK) | wall);
+        chunkRays[c] = null;
+        chunkVersions[c]++;
+        wallVersion++;
+    }
+
+    public void setFlagUnchecked(int index, byte flag) {
+        loadChunk(index >>> LOCAL_BITS)[index & (CHUNK_TILES - 1)] |= flag;
+    }
+
+    public void clearFlagUnchecked(int index, byte flag) {
+        byte[] chunk = chunks[index >>> LOCAL_BITS];
+        if (chunk != null) chunk[index & (CHUNK_TILES - 1)] &= (byte) ~flag;
+    }
+
+    // Chunks are allocated on their first write and stay, even if they turn back into plain floor
+    private byte[] loadChunk(int c) {
+        byte[] chunk = chunks[c];
+        if (chunk == null) {
+            chunk = new byte[CHUNK_TILES];
+            chunks[c] = chunk;
+            loadedChunks++;
+        }
+        return chunk;
+    }
+
+    /** Changes every time a wall is placed or destroyed. */
+    public int getWallVersion() { return wallVersion; }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    public int getEntranceX() { return entranceX; }
+    public int getEntranceY() { return entranceY; }
+    public int getExitX() { return exitX; }
+    public int getExitY() { return exitY; }
+
+    public List<EnemySpawn> getEnemySpawns() { return enemySpawns; }
+    /** The power-up spawns as read from the map file. Use {@link #getItems()} for the live state. */
+    public List<PowerUpSpawn> getPowerUpSpawns() { return powerUpSpawns; }
+    public ItemLayer getItems() { return items; }
+
+    /**
+     * Loads a map from a properties style file, reading lines like "x,y=type",
+     * or from a binary map if the path ends in {@link BinaryMapFormat#EXTENSION}.
+     * The size of a properties map is taken from the largest coordinates in the file.
+     * The file is resolved through the given port, the random source picks the exit
+     * if the map does not specify one.
+     *
+     * @throws MapFormatException if the file is malformed
+     */
+    public static TileMap load(FilePort files, String path, Random random) {
+        if (path.endsWith(BinaryMapFormat.EXTENSION)) {
+            try {
+                return BinaryMapFormat.read(files.map(path), path, random);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + path, e);
+            }
+        }
+        try (InputStream in = files.read(path)) {
+            return MapParser.parse(in, path, random);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + path, e);
+        }
+    }
+
+    /** Applies one "x,y=type" entry of a map file, see {@link MapParser}. */
+    void applyEntry(int x, int y, int type) {
+        switch(type) {
+            case 0:
+                // Indestructible wall
+                setTile(x, y, WALL_INDESTRUCTIBLE);
+                break;
+
+            case 1:
+                // Destructible wall
+                setTile(x, y, WALL_DESTRUCTIBLE);
+                break;
+
+            case 2:
+                // Entrance
+                setEntrance(x, y);
+                break;
+
+            case 3:
+                // Enemy spawn
+                addEnemySpawn(x, y);
+                break;
+
+            case 4:
+                // Exit with destructible wall above
+                setTile(x, y, WALL_DESTRUCTIBLE);
+                setSpecifiedExit(x, y);
+                break;
+
+            case 5:
+                // Concurrency power-up, also has destructible wall
+                setTile(x, y, WALL_DESTRUCTIBLE);
+                addPowerUpSpawn(x, y, 5);
+                break;
+
+            case 6:
+                // Blast radius power-up, also has destructible wall
+                setTile(x, y, WALL_DESTRUCTIBLE);
+                addPowerUpSpawn(x, y, 6);
+                break;
+
+            default:
+                // Unknown type - ignore, but count it for MapValidator
+                ignoredEntries++;
+                break;
+        }
+    }
+
+    void setEntrance(int x, int y) {
+        entranceX = x;
+        entranceY = y;
+        entranceSpecified = true;
+    }
+
+    void addEnemySpawn(int x, int y) {
+        enemySpawns.add(new EnemySpawn(x, y));
+    }
+
+    /** A power-up hidden under the (destructible) wall on (x,y). */
+    void addPowerUpSpawn(int x, int y, int type) {
+        powerUpSpawns.add(new PowerUpSpawn(x, y, type));
+        items.addHiddenPowerUp(x, y, type);
+        if (inBounds(x, y)) setFlagUnchecked(index(x, y), FLAG_POWER_UP);
+    }
+
+    /** The exit as given by the map file, no random pick needed. */
+    void setSpecifiedExit(int x, int y) {
+        setExit(x, y);
+        exitSpecified = true;
+    }
+
+    /**
+     * Fills the walls from a plane of tile codes, one byte per tile in row-major order.
+     * Floor bytes are skipped, so all-floor chunks stay unallocated.
+     *
+     * @return false if the plane holds an unknown tile code
+     */
+    boolean loadTilePlane(ByteBuffer plane) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int type = plane.get();
+                if (type == FLOOR) continue;
+                if (type != WALL_INDESTRUCTIBLE && type != WALL_DESTRUCTIBLE) return false;
+                setTileUnchecked(index(x, y), type);
+            }
+        }
+        return true;
+    }
+
+    /** True if the map file placed the exit, false if it was picked at random when loading. */
+    public boolean isExitSpecified() { return exitSpecified; }
+
+    /** False if the map file has no entrance entry, the player then starts on (0,0). */
+    public boolean isEntranceSpecified() { return entranceSpecified; }
+
+    /** How many entries of the map file had an unknown type code and were skipped. */
+    int getIgnoredEntries() { return ignoredEntries; }
+
+    void setIgnoredEntries(int count) { ignoredEntries = count; }
+
+    /**
+     * Called after the last entry. If the map has no fixed exit, one of the destructible walls
+     * is picked, counting them in row-major order so every map format picks the same one.
+     */
+    void finishLoading(Random random) {
+        if (exitSpecified) return;
+        int count = findDestructibleWall(-1);
+        if (count > 0) {
+            int i = findDestructibleWall(random.nextInt(count));
+            setExit(indexX(i), indexY(i));
+            // We keep the tile as destructible wall.
+        }
+    }
+
+    // Walks the destructible walls in row-major order, skipping unloaded chunks:
+    // the index of the n-th one, or how many there are if n < 0
+    private int findDestructibleWall(int n) {
+        int seen = 0;
+        for (int y = 0; y < height; y++) {
+            int cy = y >> CHUNK_SHIFT;
+            int row = (y & CHUNK_MASK) << CHUNK_SHIFT;
+            for (int cx = 0; cx < chunksX; cx++) {
+                byte[] chunk = chunks[cy * chunksX + cx];
+                if (chunk == null) continue;
+                int xEnd = Math.min(CHUNK_SIZE, width - (cx << CHUNK_SHIFT));
+                for (int lx = 0; lx < xEnd; lx++) {
+                    if ((chunk[row + lx] & FLAG_DESTRUCTIBLE) == 0) continue;
+                    if (seen == n) return ((cy * chunksX + cx) << LOCAL_BITS) | row | lx;
+                    seen++;
+                }
+            }
+        }
+        return n < 0 ? seen : -1;
+    }
+
+    /**
+     * A copy of this map with its own tiles and items, sharing nothing mutable.
+     * Used to start every run of a {@link MapTemplate} from the same state.
+     */
+    TileMap copy() {
+        TileMap copy = new TileMap(width, height, items.copy());
+        for (int c = 0; c < chunks.length; c++) {
+            if (chunks[c] != null) copy.chunks[c] = chunks[c].clone();
+            if (chunkRays[c] != null) copy.chunkRays[c] = chunkRays[c].clone();
+        }
+        System.arraycopy(chunkVersions, 0, copy.chunkVersions, 0, chunkVersions.length);
+        copy.loadedChunks = loadedChunks;
+        copy.wallVersion = wallVersion;
+        copy.entranceX = entranceX;
+        copy.entranceY = entranceY;
+        copy.exitX = exitX;
+        copy.exitY = exitY;
+        copy.exitSpecified = exitSpecified;
+        copy.entranceSpecified = entranceSpecified;
+        copy.ignoredEntries = ignoredEntries;
+        copy.enemySpawns.addAll(enemySpawns);     // spawns are immutable
+        copy.powerUpSpawns.addAll(powerUpSpawns);
+        return copy;
+    }
+
+    private void setExit(int x, int y) {
+        if (inBounds(exitX, exitY)) clearFlagUnchecked(index(exitX, exitY), FLAG_EXIT);
+        items.setHiddenExit(x, y, exitX, exitY);
+        exitX = x;
+        exitY = y;
+        if (inBounds(x, y)) setFlagUnchecked(index(x, y), FLAG_EXIT);
+    }
+
+    /**
+     * Destroy a destructible wall at (x, y), turning it into floor.
+     */
+    public void destroyWall(int x, int y) {
+        if (!inBounds(x, y)) return;
+        int i = index(x, y);
+        if ((getFlagsUnchecked(i) & FLAG_DESTRUCTIBLE) != 0) {
+            clearFlagUnchecked(i, WALL_MASK);
+            chunkVersions[i >>> LOCAL_BITS]++;
+            wallVersion++;
+            if (chunkRays[i >>> LOCAL_BITS] != null) patchRays(x, y);
+        }
+    }
+
+    // --- ray tables ---
+
+    public static int stepX(int dir) { return STEP_X[dir]; }
+    public static int stepY(int dir) { return STEP_Y[dir]; }
+
+    /**
+     * Number of free tiles next to (x,y) in the given direction before a wall or the map edge.
+     * Saturates at 255. (x,y) must be inside the map.
+     * Adds up the in-chunk runs, so it costs one lookup per chunk crossed.
+     */
+    public int getRayLength(int x, int y, int dir) {
+        int dx = STEP_X[dir], dy = STEP_Y[dir];
+        int total = 0;
+        while (true) {
+            int run = localRay(x, y, dir);
+            total += run;
+            if (total >= MAX_RAY) return MAX_RAY;
+            x += dx * run;
+            y += dy * run;
+
+            // stopped by a wall inside the chunk, or at the chunk/map edge?
+            int nx = x + dx, ny = y + dy;
+            if (!inBounds(nx, ny)) return total;
+            if ((nx >> CHUNK_SHIFT) == (x >> CHUNK_SHIFT) && (ny >> CHUNK_SHIFT) == (y >> CHUNK_SHIFT)) return total;
+            if (isBlockedUnchecked(index(nx, ny))) return total;
+            // the run goes on in the next chunk
+            total++;
+            x = nx;
+            y = ny;
+        }
+    }
+
+    /**
+     * How many tiles a blast starting at (x,y) covers in the given direction, using the same
+     * rules as the ExplosionResolver: it passes through destructible walls and stops in front of
+     * indestructible ones and the map edge. Costs one table lookup per wall in the way.
+     */
+    public int getBlastReach(int x, int y, int dir, int radius) {
+        int dx = STEP_X[dir], dy = STEP_Y[dir];
+        int reach = 0;
+        while (reach < radius) {
+            // jump over the free run in one go
+            int free = Math.min(getRayLength(x, y, dir), radius - reach);
+            reach += free;
+            x += dx * free;
+            y += dy * free;
+            if (reach == radius) break;
+
+            // next tile is a wall or the edge (or the run saturated)
+            int nx = x + dx, ny = y + dy;
+            if (!inBounds(nx, ny)) break;
+            byte flags = getFlagsUnchecked(index(nx, ny));
+            if ((flags & FLAG_BLOCKED) != 0 && (flags & FLAG_DESTRUCTIBLE) == 0) break;
+            reach++;
+            x = nx;
+            y = ny;
+        }
+        return reach;
+    }
+
+    // Free tiles after (x,y) in direction dir without leaving its chunk
+    private int localRay(int x, int y, int dir) {
+        int c = index(x, y) >>> LOCAL_BITS;
+        if (chunks[c] == null) {
+            // all floor: the run ends at the chunk or map edge
+            switch (dir) {
+                case RIGHT: return Math.min(x | CHUNK_MASK, width - 1) - x;
+                case LEFT: return x & CHUNK_MASK;
+                case UP: return Math.min(y | CHUNK_MASK, height - 1) - y;
+                default: return y & CHUNK_MASK;
+            }
+        }
+        byte[] rays = chunkRays[c];
+        if (rays == null) rays = buildRays(c);
+        return rays[(index(x, y) & (CHUNK_TILES - 1)) * 4 + dir];
+    }
+
+    private byte[] buildRays(int c) {
+        byte[] rays = new byte[CHUNK_TILES * 4];
+        chunkRays[c] = rays;
+        int x0 = (c % chunksX) << CHUNK_SHIFT, y0 = (c / chunksX) << CHUNK_SHIFT;
+        int x1 = Math.min(x0 + CHUNK_SIZE, width), y1 = Math.min(y0 + CHUNK_SIZE, height);
+        for (int y = y0; y < y1; y++) {
+            // RIGHT and LEFT runs along the row
+            for (int x = x1 - 1; x >= x0; x--) {
+                rays[local(x, y) * 4 + RIGHT] = (byte) nextRun(rays, x + 1, y, RIGHT);
+            }
+            for (int x = x0; x < x1; x++) {
+                rays[local(x, y) * 4 + LEFT] = (byte) nextRun(rays, x - 1, y, LEFT);
+            }
+        }
+        for (int x = x0; x < x1; x++) {
+            // UP and DOWN runs along the column
+            for (int y = y1 - 1; y >= y0; y--) {
+                rays[local(x, y) * 4 + UP] = (byte) nextRun(rays, x, y + 1, UP);
+            }
+            for (int y = y0; y < y1; y++) {
+                rays[local(x, y) * 4 + DOWN] = (byte) nextRun(rays, x, y - 1, DOWN);
+            }
+        }
+        return rays;
+    }
+
+    private static int local(int x, int y) {
+        return ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    }
+
+    /**
+     * The in-chunk ray of a tile whose neighbour in direction dir is (nx,ny):
+     * 0 if the neighbour is blocked or in another chunk, else one more than the neighbour's own ray.
+     * The neighbour's ray must already be up to date.
+     */
+    private int nextRun(byte[] rays, int nx, int ny, int dir) {
+        int px = nx - STEP_X[dir], py = ny - STEP_Y[dir];
+        if (!inBounds(nx, ny)) return 0;
+        if ((nx >> CHUNK_SHIFT) != (px >> CHUNK_SHIFT) || (ny >> CHUNK_SHIFT) != (py >> CHUNK_SHIFT)) return 0;
+        if (isBlockedUnchecked(index(nx, ny))) return 0;
+        return rays[local(nx, ny) * 4 + dir] + 1;
+    }
+
+    /**
+     * (x,y) changed between wall and floor: only the tiles of its chunk whose rays run into it
+     * need fixing, walking backwards from it up to and including the next wall.
+     */
+    private void patchRays(int x, int y) {
+        byte[] rays = chunkRays[index(x, y) >>> LOCAL_BITS];
+        for (int dir = 0; dir < 4; dir++) {
+            int dx = STEP_X[dir], dy = STEP_Y[dir];
+            // walk against the ray direction, inside the chunk
+            int px = x - dx, py = y - dy;
+            while (inBounds(px, py) && (px >> CHUNK_SHIFT) == (x >> CHUNK_SHIFT) && (py >> CHUNK_SHIFT) == (y >> CHUNK_SHIFT)) {
+                rays[local(px, py) * 4 + dir] = (byte) nextRun(rays, px + dx, py + dy, dir);
+                if (isBlockedUnchecked(index(px, py))) break; // tiles behind this wall do not see (x,y)
+                px -= dx;
+                py -= dy;
+            }
+        }
+    }
+
+    // Small record for storing enemy spawns
+    public static class EnemySpawn {
+        public final int x, y;
+        public EnemySpawn(int x, int y) { this.x=x; this.y=y; }
+    }
+
+    public static class PowerUpSpawn {
+        public final int x, y;
+        public final int type; // 5 => concurrency, 6 => blast radius
+        public PowerUpSpawn(int x,int y,int type){
+            this.x=x; this.y=y; this.type=type;
+        }
+    }
+
+}
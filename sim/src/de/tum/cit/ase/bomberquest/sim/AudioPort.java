@@ -0,0 +1,18 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+/**
+ * Sink for the sound cues the simulation emits.
+ * The simulation never plays sounds itself, it only tells this port what happened.
+ */
+public interface AudioPort {
+
+    /** The sound cues the simulation can emit. */
+    enum Cue {
+        BOMB_PLACE, BOMB_EXPLODE, POWER_UP, WIN, DIE
+    }
+
+    /** An audio port that drops every cue, used for headless runs. */
+    AudioPort SILENT = cue -> { };
+
+    void play(Cue cue);
+}
@@ -0,0 +1,58 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Resolves map paths to readable streams.
+ * The desktop game backs this with Gdx.files, headless runs read straight from disk.
+ */
+public interface FilePort {
+
+    /** Reads paths relative to the working directory with java.nio, mapping files for {@link #map}. */
+    FilePort LOCAL = new FilePort() {
+        @Override
+        public InputStream read(String path) throws IOException {
+            return Files.newInputStream(Path.of(path));
+        }
+
+        @Override
+        public ByteBuffer map(String path) throws IOException {
+            try (FileChannel channel = FileChannel.open(Path.of(path))) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        }
+    };
+
+    /**
+     * Opens the file at the given path. The caller closes the stream.
+     */
+    InputStream read(String path) throws IOException;
+
+    /**
+     * The whole file as a read-only buffer. Ports backed by real files memory-map it,
+     * the default just reads it into the heap.
+     */
+    default ByteBuffer map(String path) throws IOException {
+        try (InputStream in = read(path)) {
+            return ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Reads the whole file as UTF-8 text.
+     */
+    default String readString(String path) {
+        try (InputStream in = read(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + path, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.map.MapGenerator;
+
+/**
+ * Runs matches without a window, with a random-input bot in place of the keyboard.
+ * Usage: HeadlessRunner [mapPath] [matches] [seed]
+ * A mapPath like "random:31" plays every match on a freshly generated 31x31 arena instead.
+ * Prints the outcome counts and how many matches and ticks per second were simulated.
+ */
+public class HeadlessRunner {
+
+    private static final float TICK = 1f / 60f;
+    private static final String RANDOM_MAP = "random:";
+
+    public static void main(String[] args) {
+        String mapPath = args.length > 0 ? args[0] : "maps/map-1.properties";
+        int matches = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        MapGenerator.Settings generated = null;
+        FilePort cached = null;
+        if (mapPath.startsWith(RANDOM_MAP)) {
+            int size = Integer.parseInt(mapPath.substring(RANDOM_MAP.length()));
+            generated = new MapGenerator.Settings(size, size);
+        } else {
+            // Read the file once, every match parses the cached bytes (text or binary map)
+            byte[] mapBytes;
+            try (InputStream in = FilePort.LOCAL.read(mapPath)) {
+                mapBytes = in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + mapPath, e);
+            }
+            cached = path -> new ByteArrayInputStream(mapBytes);
+        }
+
+        int won = 0;
+        long ticks = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < matches; i++) {
+            Random botRandom = new Random(seed + i);
+            InputPort bot = action -> botRandom.nextInt(8) == 0;
+            Match match = generated != null
+                ? new Match(MapGenerator.generate(generated, seed + i), bot, AudioPort.SILENT, new Random(seed + i))
+                : Match.load(mapPath, cached, bot, AudioPort.SILENT, seed + i);
+            while (!match.isOver()) {
+                match.step(TICK);
+                ticks++;
+            }
+            if (match.isWon()) won++;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d matches (%d won, %d lost), %d ticks in %.2fs%n",
+            matches, won, matches - won, ticks, seconds);
+        System.out.printf("%.0f matches/s, %.0f ticks/s%n", matches / seconds, ticks / seconds);
+    }
+}
@@ -0,0 +1,22 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+/**
+ * Source of player input for the simulation.
+ * The desktop game backs this with Gdx.input, headless runs plug in a script or a bot.
+ */
+public interface InputPort {
+
+    /** The discrete actions a player can trigger on a tick. */
+    enum Action {
+        UP, DOWN, LEFT, RIGHT, PLACE_BOMB
+    }
+
+    /** An input port that never presses anything. */
+    InputPort NONE = action -> false;
+
+    /**
+     * @param action the action to query
+     * @return true if the action was triggered since the previous tick
+     */
+    boolean isJustPressed(Action action);
+}
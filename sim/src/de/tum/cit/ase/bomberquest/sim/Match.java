@@ -0,0 +1,90 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+import java.util.Random;
+
+import de.tum.cit.ase.bomberquest.map.Enemy;
+import de.tum.cit.ase.bomberquest.map.GameMapLogic;
+import de.tum.cit.ase.bomberquest.map.MapCache;
+import de.tum.cit.ase.bomberquest.map.MapTemplate;
+import de.tum.cit.ase.bomberquest.map.Player;
+import de.tum.cit.ase.bomberquest.map.TileMap;
+
+/**
+ * One running match: the map, the logic, the player and the countdown.
+ * It has no rendering or platform dependencies, everything outside the simulation
+ * goes through the injected ports, so it can be stepped tick by tick without a window.
+ */
+public class Match {
+
+    /** Seconds the player has to clear a map. */
+    public static final float TIME_LIMIT = 300f;
+
+    private final TileMap tileMap;
+    private final GameMapLogic logic;
+    private final Player player;
+
+    private float timeLeft = TIME_LIMIT;
+
+    /**
+     * Sets up a match on an already loaded map: places the player on the entrance
+     * and spawns all enemies.
+     */
+    public Match(TileMap tileMap, InputPort input, AudioPort audio, Random random) {
+        this.tileMap = tileMap;
+        this.logic = new GameMapLogic(tileMap, null, audio, random);
+        this.player = new Player(tileMap, tileMap.getEntranceX(), tileMap.getEntranceY(), logic, input);
+        logic.setPlayer(player);
+
+        for (TileMap.EnemySpawn es : tileMap.getEnemySpawns()) {
+            logic.addEnemy(new Enemy(tileMap, es.x, es.y, logic));
+        }
+    }
+
+    /**
+     * Loads the map at the given path and sets up a match on it.
+     * The seed drives every random decision of the match, so equal seeds and equal input give equal matches.
+     */
+    public static Match load(String mapPath, FilePort files, InputPort input, AudioPort audio, long seed) {
+        Random random = new Random(seed);
+        TileMap tileMap = TileMap.load(files, mapPath, random);
+        return new Match(tileMap, input, audio, random);
+    }
+
+    /**
+     * Sets up a match on a fresh copy of a cached map, see {@link MapCache}.
+     * Equal seeds give the same match as {@link #load} on the same file.
+     */
+    public static Match start(MapTemplate template, InputPort input, AudioPort audio, long seed) {
+        Random random = new Random(seed);
+        return new Match(template.instantiate(random), input, audio, random);
+    }
+
+    /**
+     * Advances the match by one tick. Does nothing once the match is over.
+     *
+     * @param delta seconds since the previous tick
+     */
+    public void step(float delta) {
+        if (logic.isGameOver()) return;
+
+        // 1) Update countdown timer
+        timeLeft -= delta;
+        if (timeLeft <= 0) {
+            // Time ran out -> end the game
+            logic.killPlayer("Time is over!");
+            return;
+        }
+
+        // 2) Update gameplay logic
+        player.update(delta);
+        logic.update(delta);
+    }
+
+    public boolean isOver() { return logic.isGameOver(); }
+    public boolean isWon() { return "Victory".equals(logic.getGameOverReason()); }
+    public float getTimeLeft() { return timeLeft; }
+
+    public TileMap getTileMap() { return tileMap; }
+    public GameMapLogic getLogic() { return logic; }
+    public Player getPlayer() { return player; }
+}
@@ -0,0 +1,79 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import de.tum.cit.ase.bomberquest.map.MapCache;
+import de.tum.cit.ase.bomberquest.map.MapTemplate;
+import de.tum.cit.ase.bomberquest.map.TileMap;
+
+/**
+ * Loads maps and sets up matches on a background thread, so the render thread never waits
+ * for parsing or spawning. It only receives a finished Match through the returned future.
+ *
+ * All work runs in order on a single worker thread, so a {@link #preload} queued behind a
+ * {@link #load} happens while that match is being played.
+ */
+public class MatchLoader {
+
+    /** Reports loading progress. Called on the loader thread. */
+    public interface Progress {
+        Progress NONE = (fraction, stage) -> {};
+
+        /**
+         * @param fraction from 0 to 1
+         * @param stage short description of the current step
+         */
+        void update(float fraction, String stage);
+    }
+
+    private final MapCache cache;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "map-loader");
+        thread.setDaemon(true); // never keeps the game from exiting
+        return thread;
+    });
+
+    public MatchLoader(MapCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Sets up a match on the given map in the background, like {@link Match#start} does.
+     * The future fails with the loader's exception, e.g. a MapFormatException.
+     */
+    public CompletableFuture<Match> load(String mapPath, InputPort input, AudioPort audio, long seed, Progress progress) {
+        return CompletableFuture.supplyAsync(() -> {
+            progress.update(0f, "Reading map");
+            MapTemplate template = cache.get(mapPath);
+
+            progress.update(0.6f, "Building map");
+            Random random = new Random(seed);
+            TileMap tileMap = template.instantiate(random);
+
+            progress.update(0.8f, "Spawning enemies");
+            Match match = new Match(tileMap, input, audio, random);
+
+            progress.update(1f, "Ready");
+            return match;
+        }, worker);
+    }
+
+    /** Parses the map into the cache in the background, failures are only logged. */
+    public void preload(String mapPath) {
+        worker.execute(() -> {
+            try {
+                cache.get(mapPath);
+            } catch (RuntimeException e) {
+                System.err.println("Could not preload " + mapPath + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /** Stops the worker, pending preloads are dropped. */
+    public void dispose() {
+        worker.shutdownNow();
+    }
+}
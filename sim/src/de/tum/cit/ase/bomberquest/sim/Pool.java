@@ -0,0 +1,60 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * A minimal object pool in the spirit of libGDX's Pool, which the simulation cannot use
+ * because it has no libGDX dependency. Short-lived objects are handed back with {@link #free}
+ * and reused by the next {@link #obtain}, so steady-state play does not feed the garbage collector.
+ * Not thread safe.
+ */
+public class Pool<T extends Pool.Poolable> {
+
+    /** Objects that can be put back into their initial state. */
+    public interface Poolable {
+        void reset();
+    }
+
+    private final Supplier<T> factory;
+    private final ArrayList<T> freeObjects;
+    private final int max;
+    private int peak;
+
+    public Pool(Supplier<T> factory) {
+        this(factory, 16, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param initialCapacity how many free objects to make room for up front
+     * @param max free objects beyond this are dropped instead of kept
+     */
+    public Pool(Supplier<T> factory, int initialCapacity, int max) {
+        this.factory = factory;
+        this.freeObjects = new ArrayList<>(initialCapacity);
+        this.max = max;
+    }
+
+    /** A free object, or a new one if the pool is empty. */
+    public T obtain() {
+        return freeObjects.isEmpty() ? factory.get() : freeObjects.remove(freeObjects.size() - 1);
+    }
+
+    /** Resets the object and keeps it for reuse. The caller must not touch it afterwards. */
+    public void free(T object) {
+        object.reset();
+        if (freeObjects.size() < max) {
+            freeObjects.add(object);
+            peak = Math.max(peak, freeObjects.size());
+        }
+    }
+
+    public int getFree() {
+        return freeObjects.size();
+    }
+
+    /** The largest number of free objects the pool has held. */
+    public int getPeak() {
+        return peak;
+    }
+}
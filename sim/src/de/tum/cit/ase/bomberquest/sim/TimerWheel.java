@@ -0,0 +1,149 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+/**
+ * A hierarchical timing wheel. Entities schedule a deadline once and are only touched
+ * again when it arrives, so a tick costs O(timers that fire) instead of O(all timed entities).
+ *
+ * Time advances in milliseconds. Level 0 has one slot per millisecond for the next 64 ms,
+ * every further level covers 64 times the range of the one below. Timers far in the future
+ * sit in a coarse slot and are cascaded down as their deadline comes closer.
+ *
+ * Timers are intrusive: an entity owns its {@link Timer} and reschedules it, nothing is allocated
+ * per event.
+ */
+public class TimerWheel {
+
+    public static final int TICKS_PER_SECOND = 1000;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 64^4 ms ~ 4.6 hours before deadlines alias
+
+    /**
+     * A schedulable callback. Subclass it (or use a lambda-backed subclass) and keep the instance
+     * around for as long as the entity lives.
+     */
+    public abstract static class Timer {
+        private long deadline;
+        private Timer prev, next;
+        private int level = -1, slot;
+
+        /** Called once when the deadline is reached. May reschedule itself. */
+        protected abstract void fire(TimerWheel wheel);
+
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+
+        /** Deadline in wheel ticks, only meaningful while scheduled. */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    private final Timer[][] wheels = new Timer[LEVELS][SLOTS];
+    private long current = 0;      // the tick being processed, or the last one processed
+    private double elapsed = 0.0;  // seconds, as fed in through advance(...)
+    private int count = 0;
+
+    /** Current time of the wheel in seconds. */
+    public float now() {
+        return (float) current / TICKS_PER_SECOND;
+    }
+
+    public long nowTicks() {
+        return current;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Schedules the timer to fire after the given delay, replacing any earlier schedule.
+     * Deadlines that are not in the future fire on the next tick.
+     */
+    public void schedule(Timer timer, float delaySeconds) {
+        scheduleAt(timer, current + Math.round(delaySeconds * TICKS_PER_SECOND));
+    }
+
+    public void scheduleAt(Timer timer, long deadlineTicks) {
+        if (timer.isScheduled()) unlink(timer);
+        else count++;
+        timer.deadline = Math.max(deadlineTicks, current + 1);
+        insert(timer);
+    }
+
+    public void cancel(Timer timer) {
+        if (!timer.isScheduled()) return;
+        unlink(timer);
+        count--;
+    }
+
+    /**
+     * Moves time forward by delta seconds and fires every timer whose deadline is reached,
+     * in deadline order. Timers scheduled while firing land on a later tick, timers cancelled
+     * while firing do not fire, even if they were due on the same tick.
+     */
+    public void advance(float delta) {
+        elapsed += delta;
+        long target = (long) (elapsed * TICKS_PER_SECOND);
+        while (current < target) {
+            if (count == 0) {
+                // nothing scheduled, skip ahead
+                current = target;
+                return;
+            }
+            current++;
+            cascade(current);
+            // Due timers are taken off the slot one at a time, so a callback can cancel or reschedule
+            // another timer of the same tick. Nothing new lands in this slot, deadlines are > current.
+            int slot = (int) (current & SLOT_MASK);
+            Timer due;
+            while ((due = wheels[0][slot]) != null) {
+                unlink(due);
+                count--;
+                due.fire(this);
+            }
+        }
+    }
+
+    /** On a slot boundary, moves the timers of the coarser levels down to where they belong now. */
+    private void cascade(long t) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((t & ((1L << (SLOT_BITS * level)) - 1)) != 0) return;
+            int slot = (int) ((t >> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer timer = wheels[level][slot];
+            wheels[level][slot] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.deadline - current;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((timer.deadline >> (SLOT_BITS * level)) & SLOT_MASK);
+        timer.level = level;
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = wheels[level][slot];
+        if (timer.next != null) timer.next.prev = timer;
+        wheels[level][slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) timer.prev.next = timer.next;
+        else wheels[timer.level][timer.slot] = timer.next;
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.prev = timer.next = null;
+        timer.level = -1;
+    }
+}
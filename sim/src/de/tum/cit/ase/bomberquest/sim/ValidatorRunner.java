@@ -0,0 +1,108 @@
+package de.tum.cit.ase.bomberquest.sim;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import de.tum.cit.ase.bomberquest.map.BinaryMapFormat;
+import de.tum.cit.ase.bomberquest.map.MapValidator;
+
+/**
+ * Validates whole directories of map files in parallel, see {@link MapValidator}.
+ * Usage: ValidatorRunner [--threads n] [--report file.json] path...
+ *
+ * Paths may be map files or directories, which are searched recursively for *.properties
+ * and *.bqmap files. The JSON report goes to the given file or to stdout, a short summary
+ * to stderr. Exits with 1 if any map has errors.
+ */
+public class ValidatorRunner {
+
+    public static void main(String[] args) throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path reportFile = null;
+        List<Path> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--report" -> reportFile = Path.of(args[++i]);
+                default -> roots.add(Path.of(args[i]));
+            }
+        }
+        if (roots.isEmpty()) roots.add(Path.of("maps"));
+
+        long start = System.nanoTime();
+        List<Path> files = findMaps(roots);
+
+        // Each map is read, parsed and checked on its own, so a plain parallel stream scales.
+        // A separate pool keeps --threads independent of the common pool size.
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<MapValidator.Report> reports;
+        try {
+            reports = pool.submit(() -> files.parallelStream().map(ValidatorRunner::validate).toList()).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Validation failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int invalid = 0, withWarnings = 0;
+        StringBuilder json = new StringBuilder(256 * reports.size() + 128);
+        json.append("{\"maps\":").append(reports.size());
+        int jsonCounts = json.length();
+        json.append(",\"reports\":[\n");
+        for (int i = 0; i < reports.size(); i++) {
+            MapValidator.Report report = reports.get(i);
+            if (!report.isValid()) invalid++;
+            if (!report.warnings.isEmpty()) withWarnings++;
+            if (i > 0) json.append(",\n");
+            report.appendJson(json);
+        }
+        json.append("\n]}\n");
+        json.insert(jsonCounts, ",\"invalid\":" + invalid + ",\"withWarnings\":" + withWarnings);
+
+        if (reportFile != null) {
+            Files.writeString(reportFile, json, StandardCharsets.UTF_8);
+        } else {
+            System.out.print(json);
+        }
+        System.err.printf("%d maps, %d invalid, %d with warnings in %.2fs on %d threads%n",
+            reports.size(), invalid, withWarnings, seconds, threads);
+        if (invalid > 0) System.exit(1);
+    }
+
+    // An unreadable file fails only its own report, the rest of the batch goes on
+    private static MapValidator.Report validate(Path file) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            return MapValidator.failed(file.toString(), "could not read: " + e);
+        }
+        return MapValidator.validate(bytes, file.toString());
+    }
+
+    // Sorted, so the report lists the maps in the same order on every run
+    private static List<Path> findMaps(List<Path> roots) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path root : roots) {
+            if (!Files.isDirectory(root)) {
+                files.add(root);
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(root)) {
+                walk.filter(Files::isRegularFile)
+                    .filter(p -> p.toString().endsWith(".properties") || p.toString().endsWith(BinaryMapFormat.EXTENSION))
+                    .sorted()
+                    .forEach(files::add);
+            }
+        }
+        return files;
+    }
+}